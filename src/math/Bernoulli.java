@@ -69,9 +69,11 @@ public class Bernoulli {
   * @author Richard J. Mathar
   */
   private Rational doubleSum(int n) {
-    Rational resul = Rational.ZERO;
+                /* the inner sums are integers; the outer sum is reduced once at the end.
+                */
+    RationalAccumulator resul = new RationalAccumulator();
     for (int k = 0; k <= n; k++) {
-      Rational jsum = Rational.ZERO;
+      BigInteger jsum = BigInteger.ZERO;
       BigInteger bin = BigInteger.ONE;
       for (int j = 0; j <= k; j++) {
         BigInteger jpown = (new BigInteger("" + j)).pow(n);
@@ -84,9 +86,9 @@ public class Bernoulli {
                                 */
         bin = bin.multiply(new BigInteger("" + (k - j))).divide(new BigInteger("" + (j + 1)));
       }
-      resul = resul.add(jsum.divide(new BigInteger("" + (k + 1))));
+      resul.add(new Rational(jsum, new BigInteger("" + (k + 1))));
     }
-    return resul;
+    return resul.toRational();
   }
 
 
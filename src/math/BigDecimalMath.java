@@ -137,14 +137,46 @@ public class BigDecimalMath {
     if (mc.getPrecision() < PI.precision())
       return PI.round(mc);
     else {
-                        /* Broadhurst <a href="http://arxiv.org/abs/math/9803067">arXiv:math/9803067</a>
+                        /* Brent-Salamin. The error control of the BBP series in broadhurstBBP() relies on doubles
+                        * and does not reach beyond the table. The value replaces the table, so subsequent calls
+                        * at the same or lower precision are look-ups.
                         */
-      int[] a = {1, 0, 0, -1, -1, -1, 0, 0};
-      BigDecimal S = broadhurstBBP(1, 1, a, mc);
-      return multiplyRound(S, 8);
+      final BigDecimal p = piAgm(new MathContext(mc.getPrecision() + 2));
+      if (p.precision() > PI.precision())
+        PI = p;
+      return p.round(mc);
     }
   } /* BigDecimalMath.pi */
 
+  /**
+   * Pi by the Gauss-Legendre or Brent-Salamin iteration.
+   *
+   * @param mc The required precision of the result.
+   * @return 3.14159...
+   * @since 2026-10-19
+   */
+  static private BigDecimal piAgm(final MathContext mc) {
+    final MathContext locmc = new MathContext(mc.getPrecision() + 3 + (int) Math.log10(mc.getPrecision()));
+    final BigDecimal half = new BigDecimal("0.5");
+
+                /* a_0=1, b_0=1/sqrt(2), t_0=1/4, and pi = (a+b)^2/(4t) in the limit.
+                */
+    BigDecimal a = BigDecimal.ONE;
+    BigDecimal b = sqrt(half, locmc);
+    BigDecimal t = new BigDecimal("0.25");
+    BigDecimal p = BigDecimal.ONE;
+    while (!agmConverged(a, b, locmc)) {
+      final BigDecimal an = a.add(b).multiply(half);
+      b = root(2, a.multiply(b, locmc), locmc);
+      final BigDecimal d = a.subtract(an, locmc);
+      t = t.subtract(p.multiply(d.multiply(d, locmc)), locmc);
+      p = p.add(p);
+      a = an;
+    }
+    final BigDecimal ab = a.add(b);
+    return ab.multiply(ab, locmc).divide(t.multiply(new BigDecimal(4)), mc);
+  } /* BigDecimalMath.piAgm */
+
   /**
    * Euler-Mascheroni constant.
    *
@@ -206,29 +238,9 @@ public class BigDecimalMath {
       throw new ArithmeticException("negative argument " + x.toString() + " of square root");
     if (x.abs().subtract(new BigDecimal(Math.pow(10., -mc.getPrecision()))).compareTo(BigDecimal.ZERO) < 0)
       return BigDecimalMath.scalePrec(BigDecimal.ZERO, mc);
-                /* start the computation from a double precision estimate */
-    BigDecimal s = new BigDecimal(Math.sqrt(x.doubleValue()), mc);
-    final BigDecimal half = new BigDecimal("2");
-
-                /* increase the local accuracy by 2 digits */
-    MathContext locmc = new MathContext(mc.getPrecision() + 2, mc.getRoundingMode());
-
-                /* relative accuracy requested is 10^(-precision) 
+                /* the Newton iteration with doubling precision is shared with the other roots
                 */
-    final double eps = Math.pow(10.0, -mc.getPrecision());
-    for (; ; ) {
-                        /* s = s -(s/2-x/2s); test correction s-x/s for being
-                        * smaller than the precision requested. The relative correction is 1-x/s^2,
-                        * (actually half of this, which we use for a little bit of additional protection).
-                        */
-      if (Math.abs(BigDecimal.ONE.subtract(x.divide(s.pow(2, locmc), locmc)).doubleValue()) < eps)
-        break;
-      s = s.add(x.divide(s, locmc)).divide(half, locmc);
-                        /* debugging
-                        * System.out.println("itr "+x.round(locmc).toString() + " " + s.round(locmc).toString()) ;
-                        */
-    }
-    return s;
+    return root(2, x, mc);
   } /* BigDecimalMath.sqrt */
 
   /**
@@ -277,39 +289,109 @@ public class BigDecimalMath {
     if (n <= 0)
       throw new ArithmeticException("negative power " + n + " of root");
 
-    if (n == 1)
+    if (n == 1 || x.signum() == 0)
+      return x;
+
+                /* Relative accuracy of the result is eps = x.ulp()/(2*n*x), the relative error of x divided by n.
+                * The number of valid digits 1+log10(0.5/eps) is computed from the unscaled value of x,
+                * x/x.ulp(), to remain valid for arguments outside the range of doubles.
+                */
+    final int prec = 1 + (int) (Math.log10((double) n) + log10abs(x) + x.scale());
+    return root(n, x, new MathContext(prec));
+  } /* BigDecimalMath.root */
+
+  /**
+   * The integer root.
+   *
+   * @param n  the positive argument.
+   * @param x  the non-negative argument.
+   * @param mc The required mathematical precision.
+   * @return The n-th root of the BigDecimal, x^(1/n).
+   * @since 2026-10-19
+   */
+  public static BigDecimal root(final int n, final BigDecimal x, final MathContext mc) {
+    if (x.compareTo(BigDecimal.ZERO) < 0)
+      throw new ArithmeticException("negative argument " + x.toString() + " of root");
+    if (n <= 0)
+      throw new ArithmeticException("negative power " + n + " of root");
+
+    if (x.signum() == 0)
       return x;
+    else if (n == 1)
+      return x.round(mc);
 
-                /* start the computation from a double precision estimate */
-    BigDecimal s = new BigDecimal(Math.pow(x.doubleValue(), 1.0 / n));
+                /* Guard digits: the final powering y^(n-1) multiplies the relative error of y
+                * by n-1.
+                */
+    final int guard = 2 + (int) Math.log10((double) n);
+    final MathContext locmc = new MathContext(mc.getPrecision() + guard, mc.getRoundingMode());
 
-                /* this creates nth with nominal precision of 1 digit
+                /* x^(1/n) = x*y^(n-1) with y = x^(-1/n).
                 */
-    final BigDecimal nth = new BigDecimal(n);
+    final BigDecimal y = invRootNewton(n, x, locmc.getPrecision());
+    BigDecimal s = (n == 2) ? y : y.pow(n - 1, locmc);
+    s = x.multiply(s, locmc);
+    return s.round(mc);
+  } /* BigDecimalMath.root */
 
-                /* Specify an internal accuracy within the loop which is
-                * slightly larger than what is demanded by 'eps' below.
+  /**
+   * The reciprocal.
+   *
+   * @param x  the nonzero argument.
+   * @param mc The required mathematical precision.
+   * @return 1/x.
+   * @since 2026-10-19
+   */
+  public static BigDecimal reciprocal(final BigDecimal x, final MathContext mc) {
+    if (x.signum() == 0)
+      throw new ArithmeticException("Dividing 1 through zero.");
+    final MathContext locmc = new MathContext(mc.getPrecision() + 2, mc.getRoundingMode());
+    final BigDecimal y = invRootNewton(1, x.abs(), locmc.getPrecision());
+    return (x.signum() < 0) ? y.negate().round(mc) : y.round(mc);
+  } /* BigDecimalMath.reciprocal */
+
+  /**
+   * The inverse n-th root by Newton iteration with doubling precision.
+   * The iteration y -> y+y*(1-x*y^n)/n does not need any divisions. Each step at
+   * precision p is started from a value that is correct to about p/2 digits,
+   * so the total work is a small multiple of the work of the final step at full precision.
+   *
+   * @param n    the positive power of the root.
+   * @param x    the positive argument.
+   * @param prec the number of digits required in the result.
+   * @return x^(-1/n).
+   * @since 2026-10-19
+   */
+  static private BigDecimal invRootNewton(final int n, final BigDecimal x, final int prec) {
+                /* Start from a double precision estimate of 10^(-log10(x)/n). x may be far outside
+                * the range of doubles.
                 */
-    final BigDecimal xhighpr = scalePrec(x, 2);
-    MathContext mc = new MathContext(2 + x.precision());
+    final double lg = log10abs(x) / n;
+    final double lgfloor = Math.floor(lg);
+    BigDecimal y = new BigDecimal(Math.pow(10., lgfloor - lg)).movePointLeft((int) lgfloor);
 
-                /* Relative accuracy of the result is eps.
+                /* The schedule of precisions, from the final one down to one that is still covered by
+                * the double precision estimate. Each step roughly doubles the number of correct digits.
                 */
-    final double eps = x.ulp().doubleValue() / (2 * n * x.doubleValue());
-    for (; ; ) {
-                        /* s = s -(s/n-x/n/s^(n-1)) = s-(s-x/s^(n-1))/n; test correction s/n-x/s for being
-                        * smaller than the precision requested. The relative correction is (1-x/s^n)/n,
-                        */
-      BigDecimal c = xhighpr.divide(s.pow(n - 1), mc);
-      c = s.subtract(c);
-      MathContext locmc = new MathContext(c.precision());
-      c = c.divide(nth, locmc);
-      s = s.subtract(c);
-      if (Math.abs(c.doubleValue() / s.doubleValue()) < eps)
+    Vector<Integer> precs = new Vector<Integer>();
+    for (int p = prec; ; p = p / 2 + 2) {
+      precs.add(p);
+      if (p <= 8)
         break;
     }
-    return s.round(new MathContext(err2prec(eps)));
-  } /* BigDecimalMath.root */
+
+    final BigDecimal nth = new BigDecimal(n);
+    for (int i = precs.size() - 1; i >= 0; i--) {
+      final MathContext mc = new MathContext(precs.elementAt(i));
+      BigDecimal c = x.round(mc).multiply(y.pow(n, mc), mc);
+      c = BigDecimal.ONE.subtract(c, mc);
+      c = y.multiply(c, mc);
+      if (n > 1)
+        c = c.divide(nth, mc);
+      y = y.add(c, mc);
+    }
+    return y;
+  } /* BigDecimalMath.invRootNewton */
 
   /**
    * The hypotenuse.
@@ -389,10 +471,22 @@ public class BigDecimalMath {
    * @since 2009-05-29
    */
   public static BigDecimal exp(BigDecimal x) {
+    return exp(x, expAgmPrecision);
+  } /* BigDecimalMath.exp */
+
+  /**
+   * The exponential function with a given crossover to the arithmetic-geometric mean.
+   *
+   * @param x       the argument.
+   * @param agmPrec the precision from which on the AGM is used.
+   * @return exp(x).
+   * @since 2026-10-19
+   */
+  static private BigDecimal exp(BigDecimal x, final int agmPrec) {
                 /* To calculate the value if x is negative, use exp(-x) = 1/exp(x)
                 */
     if (x.compareTo(BigDecimal.ZERO) < 0) {
-      final BigDecimal invx = exp(x.negate());
+      final BigDecimal invx = exp(x.negate(), agmPrec);
                         /* Relative error in inverse of invx is the same as the relative errror in invx.
                         * This is used to define the precision of the result.
                         */
@@ -403,6 +497,10 @@ public class BigDecimalMath {
                         * zero. The x.precision() is 1 then, and does not provide this information.
                         */
       return scalePrec(BigDecimal.ONE, -(int) (Math.log10(x.ulp().doubleValue())));
+    } else if (x.scale() + 1 >= agmPrec) {
+                        /* The relative error of the result equals the absolute error x.ulp()/2 of the argument.
+                        */
+      return expNewton(x, new MathContext(x.scale() + 1));
     } else {
                         /* Push the number in the Taylor expansion down to a small
                         * value where TAYLOR_N_TERM terms will do. If x<1, the n-th term is of the order
@@ -450,7 +548,7 @@ public class BigDecimalMath {
         int exSc = (int) (1.0 - Math.log10(TAYLOR_N_TERM * (TAYLOR_N_TERM - 1.0) * (TAYLOR_N_TERM - 2.0) * xUlpDbl
           / Math.pow(xDbl, TAYLOR_N_TERM)) / (TAYLOR_N_TERM - 1.0));
         BigDecimal xby10 = x.scaleByPowerOfTen(-exSc);
-        BigDecimal expxby10 = exp(xby10);
+        BigDecimal expxby10 = exp(xby10, agmPrec);
 
                                 /* Final powering by 10 means that the relative error of the result
                                 * is 10 times the relative error of the base (First order binomial expansion).
@@ -505,6 +603,18 @@ public class BigDecimalMath {
    * @since 2009-05-29
    */
   public static BigDecimal log(BigDecimal x) {
+    return log(x, logAgmPrecision);
+  } /* BigDecimalMath.log */
+
+  /**
+   * The natural logarithm with a given crossover to the arithmetic-geometric mean.
+   *
+   * @param x       the argument.
+   * @param agmPrec the precision from which on the AGM is used.
+   * @return ln(x).
+   * @since 2026-10-19
+   */
+  static private BigDecimal log(BigDecimal x, final int agmPrec) {
                 /* the value is undefined if x is negative.
                 */
     if (x.compareTo(BigDecimal.ZERO) < 0)
@@ -512,6 +622,15 @@ public class BigDecimalMath {
     else if (x.compareTo(BigDecimal.ONE) == 0) {
                         /* log 1. = 0. */
       return scalePrec(BigDecimal.ZERO, x.precision() - 1);
+    } else if (x.precision() >= agmPrec) {
+                        /* The absolute error of the result is the relative error x.ulp()/(2x) of x.
+                        * The magnitude of log(x) is estimated from the decimal exponent of x, or from x-1 near 1.
+                        */
+      final BigDecimal xm1 = x.subtract(BigDecimal.ONE);
+      final double lglog = (xm1.abs().compareTo(new BigDecimal("0.5")) < 0) ? log10abs(xm1)
+        : Math.log10(Math.abs(log10abs(x) * Math.log(10.)));
+      final int prec = (int) (lglog + log10abs(x) + x.scale());
+      return logAgm(x, new MathContext(Math.max(1, prec)));
     } else if (Math.abs(x.doubleValue() - 1.0) <= 0.3) {
                         /* The standard Taylor series around x=1, z=0, z=x-1. Abramowitz-Stegun 4.124.
                         * The absolute error is err(z)/(1+z) = err(x)/x.
@@ -550,7 +669,7 @@ public class BigDecimalMath {
                         */
       BigDecimal xhighpr = scalePrec(x, 2);
       BigDecimal resul = root(r, xhighpr);
-      resul = log(resul).multiply(new BigDecimal(r));
+      resul = log(resul, agmPrec).multiply(new BigDecimal(r));
 
                         /* error propagation: log(x+errx) = log(x)+errx/x, so the absolute error
                         * in the result equals the relative error in the input, xUlpDbl/xDbl .
@@ -560,6 +679,162 @@ public class BigDecimalMath {
     }
   } /* BigDecimalMath.log */
 
+  /**
+   * The precision (number of digits) from which on log() of BigDecimal arguments is computed with
+   * the arithmetic-geometric mean instead of the Taylor series.
+   * The Taylor series loose their error control beyond roughly 300 digits, where the ulp of the
+   * argument underflows the range of doubles, so the value should not be raised above that.
+   * The default has been obtained with main() on this class, which prints the timings of both methods.
+   * It is changed only through setAgmPrecision().
+   */
+  static private volatile int logAgmPrecision = 50;
+
+  /**
+   * The precision (number of digits) from which on exp() of BigDecimal arguments is computed with
+   * the Newton iteration on the AGM logarithm instead of the Taylor series.
+   * The same upper limit as for logAgmPrecision applies.
+   * It is changed only through setAgmPrecision().
+   */
+  static private volatile int expAgmPrecision = 250;
+
+  /**
+   * Set the precisions from which on log() and exp() use the arithmetic-geometric mean.
+   * The values are read once per call of log() and exp(), so calls running in other threads
+   * use either the old or the new value.
+   *
+   * @param logPrec The number of digits from which on log() uses the AGM, 50 by default.
+   * @param expPrec The number of digits from which on exp() uses the AGM, 250 by default.
+   * @throws ArithmeticException if a value is not positive.
+   * @since 2026-10-19
+   */
+  static public void setAgmPrecision(final int logPrec, final int expPrec) {
+    if (logPrec < 1 || expPrec < 1)
+      throw new ArithmeticException("Non-positive precision " + logPrec + " or " + expPrec);
+    logAgmPrecision = logPrec;
+    expAgmPrecision = expPrec;
+  } /* BigDecimalMath.setAgmPrecision */
+
+  /**
+   * Test whether two terms of the arithmetic-geometric mean agree to the working precision.
+   *
+   * @param a  the first term, positive
+   * @param b  the second term, positive
+   * @param mc the working precision
+   * @return true if a and b differ by not more than 1000 units in the last digit
+   * @since 2026-10-19
+   */
+  static private boolean agmConverged(final BigDecimal a, final BigDecimal b, final MathContext mc) {
+    final int ex = (int) Math.floor(log10abs(a));
+    final BigDecimal tol = BigDecimal.ONE.scaleByPowerOfTen(ex + 4 - mc.getPrecision());
+    return a.subtract(b).abs().compareTo(tol) <= 0;
+  } /* BigDecimalMath.agmConverged */
+
+  /**
+   * The arithmetic-geometric mean.
+   *
+   * @param a  the first positive argument
+   * @param b  the second positive argument
+   * @param mc the working precision
+   * @return AGM(a,b)
+   * @since 2026-10-19
+   */
+  static private BigDecimal agm(BigDecimal a, BigDecimal b, final MathContext mc) {
+    final BigDecimal half = new BigDecimal("0.5");
+    while (!agmConverged(a, b, mc)) {
+      final BigDecimal an = a.add(b).multiply(half);
+      b = root(2, a.multiply(b, mc), mc);
+      a = an;
+    }
+    return a.add(b).multiply(half).round(mc);
+  } /* BigDecimalMath.agm */
+
+  /**
+   * The logarithm of a scaled argument with the arithmetic-geometric mean.
+   * If s=x*2^m is larger than 10^(precision/2), log(s) = pi/(2*AGM(1,4/s)) up to a relative error
+   * of the order 1/s^2 [Brent, J. ACM 23 (1976) 242].
+   *
+   * @param x  the positive argument
+   * @param m  the binary exponent of the scaling
+   * @param mc the working precision, also used for the absolute error of the result.
+   * @return log(x*2^m).
+   * @since 2026-10-19
+   */
+  static private BigDecimal logAgmScaled(final BigDecimal x, final int m, final MathContext mc) {
+    final BigDecimal s = x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(m)), mc);
+    final BigDecimal fours = reciprocal(s, mc).multiply(new BigDecimal(4));
+    final BigDecimal g = agm(BigDecimal.ONE, fours, mc);
+    return pi(mc).divide(g.add(g), mc);
+  } /* BigDecimalMath.logAgmScaled */
+
+  /**
+   * The natural logarithm with the arithmetic-geometric mean.
+   * The argument is scaled up by a power of 2 such that the AGM formula applies, and
+   * m*log(2) subtracted afterwards.
+   *
+   * @param x  the positive argument
+   * @param mc the required relative precision of the result.
+   * @return ln(x).
+   * @since 2026-10-19
+   */
+  static private BigDecimal logAgm(final BigDecimal x, final MathContext mc) {
+                /* log(x) is obtained as a difference of two terms of the order of the precision.
+                * Close to x=1 the result is small, and the cancellation is compensated by
+                * as many digits as there are leading zeros in x-1.
+                */
+    final BigDecimal xm1 = x.subtract(BigDecimal.ONE);
+    int guard = 3 + (int) Math.log10(mc.getPrecision());
+    if (xm1.signum() == 0)
+      return BigDecimal.ZERO;
+    else if (xm1.abs().compareTo(BigDecimal.ONE) < 0)
+      guard += (int) Math.ceil(-log10abs(xm1));
+    final MathContext locmc = new MathContext(mc.getPrecision() + guard);
+
+                /* m such that x*2^m >= 2^(bits/2) = 10^(digits/2), where log2(10)/2 = 1.661 */
+    final double lg2x = log10abs(x) / Math.log10(2.);
+    final int m = Math.max(0, 4 + (int) (1.661 * locmc.getPrecision() - lg2x));
+    BigDecimal resul = logAgmScaled(x, m, locmc);
+    if (m > 0)
+      resul = resul.subtract(log(2, locmc).multiply(new BigDecimal(m)), locmc);
+    return resul.round(mc);
+  } /* BigDecimalMath.logAgm */
+
+  /**
+   * The exponential function by Newton iteration on the logarithm.
+   * The iteration y -> y+y*(x-log(y)) doubles the number of correct digits in each step,
+   * and the precision of the AGM logarithm is raised accordingly.
+   *
+   * @param x  the argument
+   * @param mc the required relative precision of the result.
+   * @return exp(x).
+   * @since 2026-10-19
+   */
+  static private BigDecimal expNewton(final BigDecimal x, final MathContext mc) {
+                /* double precision start value 10^(x/log(10)), split into the integer and
+                * fractional part of the decimal exponent.
+                */
+    final double lg = x.doubleValue() / Math.log(10.);
+    final double lgfloor = Math.floor(lg);
+    BigDecimal y = new BigDecimal(Math.pow(10., lg - lgfloor)).movePointRight((int) lgfloor);
+
+                /* The absolute error in log(y) is the relative error of the update; log(y) is roughly x,
+                * so its relative precision needs the decimal digits of x in front of the dot in addition.
+                */
+    final int guard = 2 + (int) Math.log10(1. + Math.abs(x.doubleValue()));
+
+    Vector<Integer> precs = new Vector<Integer>();
+    for (int p = mc.getPrecision() + 2; ; p = p / 2 + 2) {
+      precs.add(p);
+      if (p <= 12)
+        break;
+    }
+    for (int i = precs.size() - 1; i >= 0; i--) {
+      final MathContext locmc = new MathContext(precs.elementAt(i) + guard);
+      final BigDecimal d = x.subtract(logAgm(y, locmc), locmc);
+      y = y.add(y.multiply(d, locmc), locmc);
+    }
+    return y.round(mc);
+  } /* BigDecimalMath.expNewton */
+
   /**
    * The natural logarithm.
    *
@@ -580,14 +855,16 @@ public class BigDecimalMath {
       if (mc.getPrecision() < LOG2.precision())
         return LOG2.round(mc);
       else {
-                                /* Broadhurst <a href="http://arxiv.org/abs/math/9803067">arXiv:math/9803067</a>
-                                * Error propagation: the error in log(2) is twice the error in S(2,-5,...).
+                                /* log(2^m) from the arithmetic-geometric mean with m large enough
+                                * that 2^m exceeds 10^(precision/2). The value replaces the table.
+                                * The Broadhurst series would rely on doubles for its error control.
                                 */
-        int[] a = {2, -5, -2, -7, -2, -5, 2, -3};
-        BigDecimal S = broadhurstBBP(2, 1, a, new MathContext(1 + mc.getPrecision()));
-        S = S.multiply(new BigDecimal(8));
-        S = sqrt(divideRound(S, 3));
-        return S.round(mc);
+        final MathContext locmc = new MathContext(mc.getPrecision() + 3 + (int) Math.log10(mc.getPrecision()));
+        final int m = 4 + (int) (1.661 * locmc.getPrecision());
+        final BigDecimal l = logAgmScaled(BigDecimal.ONE, m, locmc).divide(new BigDecimal(m), locmc);
+        if (l.precision() > LOG2.precision())
+          LOG2 = l;
+        return l.round(mc);
       }
     } else if (n == 3) {
                         /* summation of a series roughly proportional to (7/500)^k. Estimate count
@@ -839,7 +1116,7 @@ public class BigDecimalMath {
                         /* We are sure that the denominator is positive here, because normalize() has been
                         * called during constrution etc.
                         */
-      return powRound(x, q.a);
+      return powRound(x, q.numer());
     }
                         /* Refuse to operate on the general negative basis. The integer q have already been handled above.
                         */
@@ -863,8 +1140,8 @@ public class BigDecimalMath {
                                 /* The main point in branching the cases above is that this conversion
                                 * will succeed for numerator and denominator of q.
                                 */
-        int qa = q.a.intValue();
-        int qb = q.b.intValue();
+        int qa = q.numer().intValue();
+        int qb = q.denom().intValue();
 
                                 /* Newton iterations. */
         BigDecimal xpowa = powRound(x, qa);
@@ -875,7 +1152,7 @@ public class BigDecimalMath {
                                         * which becomes slow if the denominator of q is large.
                                         */
           BigDecimal nu = res.pow(qb).subtract(xpowa);
-          BigDecimal de = multiplyRound(res.pow(qb - 1), q.b);
+          BigDecimal de = multiplyRound(res.pow(qb - 1), q.denom());
 
                                         /* estimated correction */
           BigDecimal eps = nu.divide(de, MathContext.DECIMAL64);
@@ -1732,7 +2009,7 @@ public class BigDecimalMath {
         BigInteger g = f.at(q.trunc().intValue() - 1);
         return scalePrec(new BigDecimal(g), mc);
       }
-    } else if (q.b.intValue() == 2) {
+    } else if (q.denom().intValue() == 2) {
                         /* half integer cases which are related to sqrt(pi)
                         */
       BigDecimal p = sqrt(pi(mc));
@@ -1943,7 +2220,7 @@ public class BigDecimalMath {
     } else {
                         /* Cohen et al Exp Math 1 (1) (1992) 25
                         */
-      Rational betsum = new Rational();
+      RationalAccumulator betacc = new RationalAccumulator();
       Bernoulli bern = new Bernoulli();
       Factorial fact = new Factorial();
       for (int npr = 0; npr <= (n + 1) / 2; npr++) {
@@ -1951,11 +2228,11 @@ public class BigDecimalMath {
         b = b.divide(fact.at(2 * npr)).divide(fact.at(n + 1 - 2 * npr));
         b = b.multiply(1 - 2 * npr);
         if (npr % 2 == 0)
-          betsum = betsum.add(b);
+          betacc.add(b);
         else
-          betsum = betsum.subtract(b);
+          betacc.subtract(b);
       }
-      betsum = betsum.divide(n - 1);
+      final Rational betsum = betacc.toRational().divide(n - 1);
                         /* The first term, including the facor (2pi)^n, is essentially most
                         * of the result, near one. The second term below is roughly in the range 0.003 to 0.009.
                         * So the precision here is matching the precisionn requested by mc, and the precision
@@ -2749,4 +3026,52 @@ public class BigDecimalMath {
     return 5. * Math.abs(x) * Math.pow(10., -prec);
   }
 
+  /**
+   * The decimal logarithm of the absolute value in double precision.
+   * Unlike Math.log10(x.doubleValue()) this remains finite if x is outside the range of doubles,
+   * and does not convert all digits of x.
+   *
+   * @param x The nonzero argument.
+   * @return log10(|x|).
+   * @since 2026-10-19
+   */
+  static private double log10abs(final BigDecimal x) {
+    final BigInteger u = x.unscaledValue().abs();
+    final int sh = Math.max(0, u.bitLength() - 62);
+    return Math.log10(u.shiftRight(sh).doubleValue()) + sh * Math.log10(2.) - x.scale();
+  }
+
+  /**
+   * Test program.
+   * Prints the timings of log() and exp() with the series expansions and with the arithmetic-geometric mean
+   * as a function of the precision, to locate the crossovers logAgmPrecision and expAgmPrecision.
+   *
+   * @param args The optional maximum number of digits, 260 by default.
+   * @since 2026-10-19
+   */
+  public static void main(String[] args) {
+    final int maxdig = (args.length > 0) ? Integer.parseInt(args[0]) : 260;
+    final BigDecimal x0 = new BigDecimal("3.7");
+    System.out.println("# digits log(Taylor) log(AGM) exp(Taylor) exp(AGM) [microseconds]");
+    for (int digits = 20; digits <= maxdig; digits += 20) {
+      final BigDecimal x = scalePrec(x0, digits - x0.precision());
+      long[] t = new long[4];
+      for (int meth = 0; meth < 4; meth++) {
+        final int cut = (meth % 2 == 0) ? Integer.MAX_VALUE : 1;
+        final int rep = 40;
+        for (int warm = 0; warm < 2; warm++) {
+          final long t0 = System.nanoTime();
+          for (int r = 0; r < rep; r++) {
+            if (meth < 2)
+              log(x, cut);
+            else
+              exp(x, cut);
+          }
+          t[meth] = (System.nanoTime() - t0) / (1000L * rep);
+        }
+      }
+      System.out.println(digits + " " + t[0] + " " + t[1] + " " + t[2] + " " + t[3]);
+    }
+  } /* BigDecimalMath.main */
+
 } /* BigDecimalMath */
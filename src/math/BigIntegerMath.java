@@ -13,24 +13,34 @@ import java.util.Vector;
 public class BigIntegerMath {
 
 
+  /**
+   * The size of the smaller lower index up to which binomial() multiplies and
+   * divides term by term, instead of combining the prime powers.
+   *
+   * @since 2026-10-19
+   */
+  static private final int BINOMIAL_DIRECT = 40;
+
   /**
    * Evaluate binomial(n,k).
+   * For non-negative n, the exponent of each prime p up to n is the number of carries when adding k and n-k
+   * in base p (Kummer), computed from Legendre's formula, and the prime powers are multiplied in a
+   * balanced product tree.
    *
    * @param n The upper index
    * @param k The lower index
-   * @return The binomial coefficient
+   * @return The binomial coefficient. This is zero if k&lt;0 or if k&gt;n&ge;0, and the extension
+   * (-1)^k*binomial(k-n-1,k) to negative n.
    * @author Richard J. Mathar
    */
   static public BigInteger binomial(final int n, final int k) {
-    if (k == 0)
-      return BigInteger.ONE;
-    BigInteger bin = BigInteger.valueOf((long) n);
-    BigInteger n2 = bin;
-    for (BigInteger i = BigInteger.valueOf((long) (k - 1)); i.compareTo(BigInteger.ONE) >= 0; i = i.subtract(BigInteger.ONE))
-      bin = bin.multiply(n2.subtract(i));
-    for (BigInteger i = BigInteger.valueOf((long) k); i.compareTo(BigInteger.ONE) == 1; i = i.subtract(BigInteger.ONE))
-      bin = bin.divide(i);
-    return (bin);
+    if (k < 0)
+      return BigInteger.ZERO;
+    if (n < 0)
+      return binomial(BigInteger.valueOf(n), BigInteger.valueOf(k));
+    if (k > n)
+      return BigInteger.ZERO;
+    return binomialHalf(n, Math.min(k, n - k));
   } /* binomial */
 
   /**
@@ -38,67 +48,206 @@ public class BigIntegerMath {
    *
    * @param n The upper index
    * @param k The lower index
-   * @return The binomial coefficient
+   * @return The binomial coefficient. This is zero if k&lt;0 or if k&gt;n&ge;0, and the extension
+   * (-1)^k*binomial(k-n-1,k) to negative n.
    * @author Richard J. Mathar
    * @since 2008-10-15
    */
   static public BigInteger binomial(final BigInteger n, final BigInteger k) {
-                /* binomial(n,0) =1 
-                */
-    if (k.compareTo(BigInteger.ZERO) == 0)
-      return (BigInteger.ONE);
-
-    BigInteger bin = n;
-
-                /* the following version first calculates n(n-1)(n-2)..(n-k+1)
-                * in the first loop, and divides this product through k(k-1)(k-2)....2
-                * in the second loop. This is rather slow and replaced by a faster version
-                * below
-                * BigInteger n2 = bin ;
-                * BigInteger i= k.subtract(BigInteger.ONE) ;
-                * for( ; i.compareTo(BigInteger.ONE) >= 0 ; i = i.subtract(BigInteger.ONE) )
-                *       bin = bin.multiply(n2.subtract(i)) ;
-                * i= BigInteger.valueOf(k) ;
-                * for( ; i.compareTo(BigInteger.ONE) == 1 ; i = i.subtract(BigInteger.ONE) )
-                *       bin = bin.divide(i) ;
-                */
+    if (k.signum() < 0)
+      return BigInteger.ZERO;
+    if (n.signum() < 0) {
+      final BigInteger b = binomial(k.subtract(n).subtract(BigInteger.ONE), k);
+      return k.testBit(0) ? b.negate() : b;
+    }
+    if (k.compareTo(n) > 0)
+      return BigInteger.ZERO;
 
-                /* calculate n then n(n-1)/2 then n(n-1)(n-2)(2*3) etc up to n(n-1)..(n-k+1)/(2*3*..k)
-                * This is roughly the best way to keep the individual intermediate products small
-                * and in the integer domain. First replace C(n,k) by C(n,n-k) if n-k<k.
+                /* First replace C(n,k) by C(n,n-k) if n-k<k.
                 */
     BigInteger truek = k;
     if (n.subtract(k).compareTo(k) < 0)
       truek = n.subtract(k);
+    if (n.bitLength() < 32)
+      return binomialHalf(n.longValue(), truek.intValue());
+    if (truek.bitLength() >= 32)
+      throw new ArithmeticException("Binomial " + n + " over " + k + " too large");
 
-                /* Calculate C(num,truek) where num=n and truek is the smaller of n-k and k.
-                * Have already initialized bin=n=C(n,1) above. Start definining the factorial
-                * in the denominator, named fden
-                */
-    BigInteger i = BigInteger.valueOf(2L);
-    BigInteger num = n;
-                /* a for-loop   (i=2;i<= truek;i++)
+                /* n(n-1)..(n-k+1) in a product tree, divided by k!
                 */
-    for (; i.compareTo(truek) <= 0; i = i.add(BigInteger.ONE)) {
-                        /* num = n-i+1 after this operation
-                        */
-      num = num.subtract(BigInteger.ONE);
-                        /* multiply by (n-i+1)/i
+    final int kk = truek.intValue();
+    BigInteger[] f = new BigInteger[kk];
+    for (int i = 0; i < kk; i++)
+      f[i] = n.subtract(BigInteger.valueOf(i));
+    return (kk == 0) ? BigInteger.ONE : product(f, 0, kk).divide(new Factorial().at(kk));
+  } /* binomial */
+
+  /**
+   * Evaluate binomial(n,k) for the lower half of the k.
+   *
+   * @param n The upper index, smaller than 2^31.
+   * @param k The lower index, 0&le;k&le;n/2.
+   * @return The binomial coefficient.
+   * @throws ArithmeticException if n or k are outside these ranges.
+   * @since 2026-10-19
+   */
+  static private BigInteger binomialHalf(final long n, final int k) {
+    if (n > Integer.MAX_VALUE || k < 0 || k > n / 2)
+      throw new ArithmeticException("Binomial " + n + " over " + k + " outside the lower half");
+    if (k <= BINOMIAL_DIRECT) {
+                        /* (n-k+1)/1*(n-k+2)/2*..., each partial product being a binomial coefficient,
+                        * in longs while they fit.
                         */
-      bin = (bin.multiply(num)).divide(i);
+      BigInteger bin = BigInteger.ONE;
+      long b = 1;
+      int i = 1;
+      for (; i <= k; i++) {
+        final long m = n - k + i;
+        if (b > Long.MAX_VALUE / m)
+          break;
+        b = b * m / i;
+      }
+      bin = BigInteger.valueOf(b);
+      for (; i <= k; i++)
+        bin = bin.multiply(BigInteger.valueOf(n - k + i)).divide(BigInteger.valueOf(i));
+      return bin;
     }
-    return (bin);
-  } /* binomial */
+    final int nn = (int) n;
+    final int[] primes = Prime.sieve(nn);
+    long[] f = new long[primes.length];
+    int nf = 0;
+    long acc = 1;
+    for (int p : primes) {
+      long pe;
+      if (p > nn - k)
+                                /* exactly once in n(n-1)..(n-k+1), not in k! */
+        pe = p;
+      else if (2 * p > nn)
+        continue;
+      else {
+        final int e = Factorial.exponent(nn, p) - Factorial.exponent(k, p) - Factorial.exponent(nn - k, p);
+        if (e == 0)
+          continue;
+        pe = p;
+        for (int j = 1; j < e; j++)
+          pe *= p;
+      }
+      if (acc > Long.MAX_VALUE / pe) {
+        f[nf++] = acc;
+        acc = 1;
+      }
+      acc *= pe;
+    }
+    f[nf++] = acc;
+    return product(f, 0, nf);
+  } /* binomialHalf */
+
+  /**
+   * Evaluate a multinomial coefficient.
+   *
+   * @param k The lower indices, non-negative.
+   * @return (k[0]+k[1]+...)!/(k[0]!k[1]!...), from the prime exponents of the factorials.
+   * @since 2026-10-19
+   */
+  static public BigInteger multinomial(final int[] k) {
+    long n = 0;
+    for (int ki : k) {
+      if (ki < 0)
+        throw new ArithmeticException("Negative index " + ki);
+      n += ki;
+    }
+    if (n > Integer.MAX_VALUE)
+      throw new ArithmeticException("Multinomial of order " + n + " too large");
+    final int nn = (int) n;
+    final int[] primes = Prime.sieve(nn);
+    long[] f = new long[primes.length + 1];
+    int nf = 0;
+    long acc = 1;
+    for (int p : primes) {
+      int e = Factorial.exponent(nn, p);
+      for (int ki : k)
+        e -= Factorial.exponent(ki, p);
+      for (; e > 0; e--) {
+        if (acc > Long.MAX_VALUE / p) {
+          f[nf++] = acc;
+          acc = 1;
+        }
+        acc *= p;
+      }
+    }
+    f[nf++] = acc;
+    return product(f, 0, nf);
+  } /* multinomial */
+
+  /**
+   * A row of Pascal's triangle.
+   * C(n,i+1) = C(n,i)*(n-i)/(i+1), with the second half of the row filled by symmetry.
+   *
+   * @param n The upper index, non-negative.
+   * @return The vector of binomial(n,0), binomial(n,1),... binomial(n,n).
+   * @since 2026-10-19
+   */
+  static public BigInteger[] binomialRow(final int n) {
+    if (n < 0)
+      throw new ArithmeticException("Negative argument " + n);
+    BigInteger[] row = new BigInteger[n + 1];
+    row[0] = row[n] = BigInteger.ONE;
+    for (int i = 0; i < n / 2; i++)
+      row[i + 1] = row[n - i - 1] = row[i].multiply(BigInteger.valueOf(n - i)).divide(BigInteger.valueOf(i + 1));
+    return row;
+  } /* binomialRow */
+
+  /**
+   * The product of a list of longs by binary splitting.
+   * The two halves are of similar size, which keeps the multiplications balanced.
+   *
+   * @param f  the factors.
+   * @param lo the index of the first factor.
+   * @param hi the index after the last factor, larger than lo.
+   * @return f[lo]*f[lo+1]*...*f[hi-1].
+   * @since 2026-10-19
+   */
+  static BigInteger product(final long[] f, final int lo, final int hi) {
+    if (hi - lo <= 8) {
+      BigInteger r = BigInteger.valueOf(f[lo]);
+      for (int i = lo + 1; i < hi; i++)
+        r = r.multiply(BigInteger.valueOf(f[i]));
+      return r;
+    }
+    final int mid = (lo + hi) >>> 1;
+    return product(f, lo, mid).multiply(product(f, mid, hi));
+  } /* product */
+
+  /**
+   * The product of a list of BigIntegers by binary splitting.
+   *
+   * @param f  the factors.
+   * @param lo the index of the first factor.
+   * @param hi the index after the last factor, larger than lo.
+   * @return f[lo]*f[lo+1]*...*f[hi-1].
+   * @since 2026-10-19
+   */
+  static BigInteger product(final BigInteger[] f, final int lo, final int hi) {
+    if (hi - lo == 1)
+      return f[lo];
+    final int mid = (lo + hi) >>> 1;
+    return product(f, lo, mid).multiply(product(f, mid, hi));
+  } /* product */
 
   /**
    * Evaluate sigma_k(n).
    *
+   * For k=0 and 1 the value is taken from the shared Sieve table if that covers n.
+   *
    * @param n the main argument which defines the divisors
    * @param k the lower index, which defines the power
    * @return The sum of the k-th powers of the positive divisors
    * @author Richard J. Mathar
    */
   static public BigInteger sigmak(final BigInteger n, final int k) {
+    final Sieve s = (k <= 1 && n.bitLength() < 32) ? Sieve.lookup(n.abs().longValue()) : null;
+    if (s != null)
+      return BigInteger.valueOf(s.sigma(k, n.abs().intValue()));
     return (new IFactor(n.abs())).sigma(k).n;
   } /* sigmak */
 
@@ -111,7 +260,7 @@ public class BigIntegerMath {
    * @since 2006-08-14
    */
   static public BigInteger sigma(int n) {
-    return (new IFactor(Math.abs(n))).sigma().n;
+    return sigmak(BigInteger.valueOf(n), 1);
   }
 
   /**
@@ -135,7 +284,7 @@ public class BigIntegerMath {
    * @since 2006-08-14
    */
   static public BigInteger sigma(final BigInteger n) {
-    return (new IFactor(n.abs())).sigma().n;
+    return sigmak(n, 1);
   }
 
   /**
@@ -163,6 +312,9 @@ public class BigIntegerMath {
   public BigInteger eulerPhi(final BigInteger n) {
     if (n.compareTo(BigInteger.ZERO) <= 0)
       throw new ArithmeticException("negative argument " + n + " of EulerPhi");
+    final Sieve s = (n.bitLength() < 32) ? Sieve.lookup(n.longValue()) : null;
+    if (s != null)
+      return BigInteger.valueOf(s.phi(n.intValue()));
     final IFactor prFact = new IFactor(n);
     BigInteger phi = n;
     if (n.compareTo(BigInteger.ONE) > 0)
@@ -183,14 +335,12 @@ public class BigIntegerMath {
    * @since 2010-08-27
    */
   static public int isqrt(final int n) {
-    if (n < 0)
-      throw new ArithmeticException("Negative argument " + n);
-    final double resul = Math.sqrt((double) n);
-    return (int) Math.round(resul);
+    return (int) isqrt((long) n);
   } /* isqrt */
 
   /**
    * Evaluate floor(sqrt(n)).
+   * The floating point estimate is off by at most one above 2^52, and corrected.
    *
    * @param n The non-negative argument.
    *          Arguments less than zero throw an ArithmeticException.
@@ -201,12 +351,20 @@ public class BigIntegerMath {
   static public long isqrt(final long n) {
     if (n < 0)
       throw new ArithmeticException("Negative argument " + n);
-    final double resul = Math.sqrt((double) n);
-    return Math.round(resul);
+    long r = (long) Math.sqrt((double) n);
+                /* compare r^2 with n by division, because (r+1)^2 may overflow */
+    while (r > 0 && r > n / r)
+      r--;
+    while (r + 1 <= n / (r + 1))
+      r++;
+    return r;
   } /* isqrt */
 
   /**
    * Evaluate floor(sqrt(n)).
+   * The square root of the upper half of the bits is computed recursively, which provides half of
+   * the bits of the result, and one Newton step doubles this precision. The cost is a few multiplications
+   * and one division of the full size.
    *
    * @param n The non-negative argument.
    *          Arguments less than zero throw an ArithmeticException.
@@ -217,36 +375,20 @@ public class BigIntegerMath {
   static public BigInteger isqrt(final BigInteger n) {
     if (n.compareTo(BigInteger.ZERO) < 0)
       throw new ArithmeticException("Negative argument " + n.toString());
-                /* Start with an estimate from a floating point reduction.
-                */
-    BigInteger x;
     final int bl = n.bitLength();
-    if (bl > 120)
-      x = n.shiftRight(bl / 2 - 1);
-    else {
-      final double resul = Math.sqrt(n.doubleValue());
-      x = new BigInteger("" + Math.round(resul));
-    }
+    if (bl < 63)
+      return BigInteger.valueOf(isqrt(n.longValue()));
 
-    final BigInteger two = BigInteger.valueOf(2L);
-    while (true) {
-                        /* check whether the result is accurate, x^2 =n
-                        */
-      BigInteger x2 = x.pow(2);
-      BigInteger xplus2 = x.add(BigInteger.ONE).pow(2);
-      if (x2.compareTo(n) <= 0 && xplus2.compareTo(n) > 0)
-        return x;
-      xplus2 = xplus2.subtract(x.shiftLeft(2));
-      if (xplus2.compareTo(n) <= 0 && x2.compareTo(n) > 0)
-        return x.subtract(BigInteger.ONE);
-                        /* Newton algorithm. This correction is on the
-                        * low side caused by the integer divisions. So the value required
-                        * may end up by one unit too large by the bare algorithm, and this
-                        * is caught above by comparing x^2, (x+-1)^2 with n.
-                        */
-      xplus2 = x2.subtract(n).divide(x).divide(two);
-      x = x.subtract(xplus2);
-    }
+                /* the result has b=ceil(bl/2) bits. r0=sqrt(n/4^s) has b-s correct bits, so with
+                * s <= b/2-1 the Newton correction of r0*2^s, which lands above the root, is off
+                * by less than one.
+                */
+    final int s = (bl + 1) / 4 - 1;
+    final BigInteger x = isqrt(n.shiftRight(2 * s)).shiftLeft(s);
+    BigInteger r = x.add(n.divide(x)).shiftRight(1);
+    while (r.multiply(r).compareTo(n) > 0)
+      r = r.subtract(BigInteger.ONE);
+    return r;
   } /* isqrt */
 
   /**
@@ -256,6 +398,51 @@ public class BigIntegerMath {
    *          Arguments less than zero throw an ArithmeticException.
    * @param n The positive inverse power.
    * @return The integer n-th root of x, rounded down.
+   * @since 2026-10-19
+   */
+  static public long iroot(final long x, final int n) {
+    if (x < 0)
+      throw new ArithmeticException("Negative argument " + x);
+    if (n < 1)
+      throw new ArithmeticException("Non-positive argument " + n);
+    if (n == 1 || x < 2)
+      return x;
+    long r = (long) Math.pow((double) x, 1.0 / n);
+    while (r > 0 && !powLeq(r, n, x))
+      r--;
+    while (powLeq(r + 1, n, x))
+      r++;
+    return r;
+  } /* iroot */
+
+  /**
+   * Compare a power with an upper limit without overflow.
+   *
+   * @param r The positive base.
+   * @param n The positive exponent.
+   * @param x The non-negative limit.
+   * @return True if r^n <= x.
+   * @since 2026-10-19
+   */
+  static private boolean powLeq(final long r, final int n, final long x) {
+    long p = 1;
+    for (int i = 0; i < n; i++) {
+      if (p > x / r)
+        return false;
+      p *= r;
+    }
+    return true;
+  } /* powLeq */
+
+  /**
+   * Evaluate floor(root[n](x)).
+   * The n-th root of the upper bits is computed recursively, which provides about half of the bits
+   * of the result. One Newton step from this estimate doubles the precision.
+   *
+   * @param x The non-negative argument.
+   *          Arguments less than zero throw an ArithmeticException.
+   * @param n The positive inverse power.
+   * @return The integer n-th root of x, rounded down.
    * @author Richard J. Mathar
    * @since 2012-11-29
    */
@@ -264,31 +451,37 @@ public class BigIntegerMath {
       throw new ArithmeticException("Negative argument " + x.toString());
     if (n < 1)
       throw new ArithmeticException("Non-positive argument " + n);
-                /* Start with an estimate from a floating point reduction.
-                */
-    BigInteger r;
-    final BigInteger nBig = BigInteger.valueOf((long) n);
+    if (n == 1)
+      return x;
+    else if (n == 2)
+      return isqrt(x);
     final int bl = x.bitLength();
-    if (bl > 120)
-      r = x.shiftRight(bl / n - 1);
-    else {
-      final double resul = Math.pow(x.doubleValue(), 1.0 / n);
-      r = new BigInteger("" + Math.round(resul));
-    }
+    if (bl < 63)
+      return BigInteger.valueOf(iroot(x.longValue(), n));
 
-    while (true) {
-                        /* check whether the result is accurate, r^n =x
+                /* the number of bits of the result */
+    final int b = (bl + n - 1) / n;
+    BigInteger r;
+    if (b <= 48) {
+                        /* floating point estimate from the leading 53 bits and the exponent */
+      final int sh = bl - 53;
+      final double lg2 = Math.log(x.shiftRight(sh).doubleValue()) / Math.log(2.0) + sh;
+      r = BigInteger.valueOf((long) Math.pow(2.0, lg2 / n));
+      while (r.add(BigInteger.ONE).pow(n).compareTo(x) <= 0)
+        r = r.add(BigInteger.ONE);
+    } else {
+                        /* the root of x/2^(n*s) has b-s correct bits, and the Newton step from r0*2^s
+                        * squares the relative error, which is then below 1/(2(n-1)) units of the root.
                         */
-      BigInteger r2 = r.pow(n);
-      BigInteger rplus2 = r.add(BigInteger.ONE).pow(n);
-      if (r2.compareTo(x) <= 0 && rplus2.compareTo(x) > 0)
-        return r;
-      rplus2 = r.subtract(BigInteger.ONE).pow(n);
-      if (rplus2.compareTo(x) <= 0 && r2.compareTo(x) > 0)
-        return r.subtract(BigInteger.ONE);
-      rplus2 = r2.subtract(x).divide(r.pow(n - 1)).divide(nBig);
-      r = r.subtract(rplus2);
+      final int s = (b - 2 - Integer.SIZE + Integer.numberOfLeadingZeros(n)) / 2;
+      final BigInteger y = iroot(x.shiftRight(n * s), n).shiftLeft(s);
+      final BigInteger nBig = BigInteger.valueOf(n);
+      r = y.multiply(BigInteger.valueOf(n - 1)).add(x.divide(y.pow(n - 1))).divide(nBig);
     }
+                /* the Newton step is never below the root, so corrections are downwards */
+    while (r.pow(n).compareTo(x) > 0)
+      r = r.subtract(BigInteger.ONE);
+    return r;
   } /* iroot */
 
   /**
@@ -387,8 +580,18 @@ public class BigIntegerMath {
     return M;
   }
 
+  /**
+   * The matrix size from which on det() uses the multi-modular algorithm instead of the
+   * fraction-free elimination over the integers.
+   *
+   * @since 2026-10-19
+   */
+  static private final int DET_MODULAR_THRESHOLD = 40;
+
   /**
    * Determinant of an integer square matrix.
+   * Small matrices are reduced by Bareiss' fraction-free Gaussian elimination, in which all
+   * intermediate values are minors of A. Large matrices are handled by detModular().
    *
    * @param A The square matrix.
    *          If column and row dimensions are unequal, an ArithmeticException is thrown.
@@ -397,7 +600,6 @@ public class BigIntegerMath {
    * @since 2010-08-27
    */
   static public BigInteger det(final BigInteger[][] A) throws ArithmeticException {
-    BigInteger d = BigInteger.ZERO;
                 /* row size */
     final int rL = A.length;
     if (rL == 0)
@@ -411,31 +613,36 @@ public class BigIntegerMath {
                 */
     if (rL == 1)
       return A[0][0];
-
     else if (rL == 2) {
-      d = A[0][0].multiply(A[1][1]);
+      BigInteger d = A[0][0].multiply(A[1][1]);
       return d.subtract(A[0][1].multiply(A[1][0]));
-    } else {
-                        /* Work arbitrarily along the first column of the matrix */
-      for (int r = 0; r < rL; r++) {
-                                /* Do not consider minors that do no contribute anyway
-                                */
-        if (A[r][0].compareTo(BigInteger.ZERO) != 0) {
-          final BigInteger M[][] = minor(A, r, 0);
-          final BigInteger m = A[r][0].multiply(det(M));
-                                        /* recursive call */
-          if (r % 2 == 0)
-            d = d.add(m);
-          else
-            d = d.subtract(m);
-        }
-      }
-    }
-    return d;
+    } else if (rL >= DET_MODULAR_THRESHOLD)
+      return detModular(A);
+
+    BigInteger[][] M = copy(A);
+    final int sig = bareiss(M, rL);
+    if (sig == 0)
+      return BigInteger.ZERO;
+    return (sig > 0) ? M[rL - 1][rL - 1] : M[rL - 1][rL - 1].negate();
+  }
+
+  /**
+   * Determinant of an integer square matrix by Chinese remaindering.
+   *
+   * @param A The square matrix.
+   *          If column and row dimensions are unequal, an ArithmeticException is thrown.
+   * @return The determinant.
+   * @see MultiModular#det(BigInteger[][])
+   * @since 2026-10-19
+   */
+  static public BigInteger detModular(final BigInteger[][] A) throws ArithmeticException {
+    return MultiModular.det(A);
   }
 
   /**
    * Solve a linear system of equations.
+   * The forward elimination is Bareiss' fraction-free variant on the matrix augmented by the
+   * right hand side, so the coefficients do not grow beyond minors of the augmented matrix.
    *
    * @param A   The square matrix.
    *            If it is not of full rank, an ArithmeticException is thrown.
@@ -458,62 +665,88 @@ public class BigIntegerMath {
     if (rhs.length != rL)
       throw new ArithmeticException("Right hand side dim " + rhs.length + " unequal matrix dim " + rL);
 
-                        /* Gauss elimination 
-                        */
-    Rational x[] = new Rational[rL];
+                /* the augmented matrix [A | rhs]
+                */
+    BigInteger[][] M = new BigInteger[rL][cL + 1];
+    for (int r = 0; r < rL; r++) {
+      System.arraycopy(A[r], 0, M[r], 0, cL);
+      M[r][cL] = rhs[r];
+    }
+    if (bareiss(M, cL) == 0)
+      throw new ArithmeticException("Zero determinant of main matrix");
 
-                        /* copy of r.h.s ito a mutable Rationalright hand side
-                        */
-    for (int c = 0; c < cL; c++)
-      x[c] = new Rational(rhs[c]);
+                /* backward substitution in the upper triangular system. By Cramer's rule, the
+                * y = det*x are integers, where det is the last pivot, so the divisions through
+                * the pivots are exact.
+                */
+    final BigInteger det = M[cL - 1][cL - 1];
+    BigInteger y[] = new BigInteger[rL];
+    for (int r = cL - 1; r >= 0; r--) {
+      BigInteger s = det.multiply(M[r][cL]);
+      for (int c = r + 1; c < cL; c++)
+        s = s.subtract(M[r][c].multiply(y[c]));
+      y[r] = s.divide(M[r][r]);
+    }
+    Rational x[] = new Rational[rL];
+    for (int r = 0; r < rL; r++)
+      x[r] = new Rational(y[r], det);
+    return x;
+  }
 
-                        /* Create zeros downwards column c  by linear combination of row c and row r.
-                        */
-    for (int c = 0; c < cL - 1; c++) {
-                                /* zero on the diagonal? swap with a non-zero row, searched with index r */
-      if (A[c][c].compareTo(BigInteger.ZERO) == 0) {
-        boolean swpd = false;
-        for (int r = c + 1; r < rL; r++) {
-          if (A[r][c].compareTo(BigInteger.ZERO) != 0) {
-            for (int cpr = c; cpr < cL; cpr++) {
-              BigInteger tmp = A[c][cpr];
-              A[c][cpr] = A[r][cpr];
-              A[r][cpr] = tmp;
-            }
-            Rational tmp = x[c];
-            x[c] = x[r];
-            x[r] = tmp;
-            swpd = true;
-            break;
-          }
-        }
-                                        /* not swapped with a non-zero row: determinant zero and no solution
-                                        */
-        if (!swpd)
-          throw new ArithmeticException("Zero determinant of main matrix");
+  /**
+   * Bareiss' fraction-free Gaussian elimination.
+   * On return, M is upper triangular in the first n columns, and each pivot M[k][k] is the leading
+   * principal k+1 by k+1 minor of the row-permuted input.
+   *
+   * @param M The matrix with n or more columns, modified in place.
+   * @param n The number of columns to be eliminated, not larger than the number of rows.
+   * @return 0 if a pivot is zero (the leading n by n submatrix is singular), else the sign +1 or -1
+   * of the row permutation.
+   * @since 2026-10-19
+   */
+  static private int bareiss(BigInteger[][] M, final int n) {
+    final int cL = M[0].length;
+    int sig = 1;
+    BigInteger prev = BigInteger.ONE;
+    for (int k = 0; k < n; k++) {
+                        /* zero on the diagonal? swap with a non-zero row below */
+      if (M[k][k].signum() == 0) {
+        int r = k + 1;
+        while (r < M.length && M[r][k].signum() == 0)
+          r++;
+        if (r >= M.length)
+          return 0;
+        BigInteger[] tmp = M[k];
+        M[k] = M[r];
+        M[r] = tmp;
+        sig = -sig;
       }
-                                /* create zero at A[c+1..cL-1][c] */
-      for (int r = c + 1; r < rL; r++) {
-                                        /* skip the cpr=c which actually sets the zero: this element is not visited again
-                                        */
-        for (int cpr = c + 1; cpr < cL; cpr++) {
-          BigInteger tmp = A[c][c].multiply(A[r][cpr]).subtract(A[c][cpr].multiply(A[r][c]));
-          A[r][cpr] = tmp;
+                        /* M[r][c] = (M[k][k]*M[r][c]-M[r][k]*M[k][c])/prev, the division being exact
+                        */
+      for (int r = k + 1; r < M.length; r++) {
+        for (int c = k + 1; c < cL; c++) {
+          BigInteger t = M[k][k].multiply(M[r][c]).subtract(M[r][k].multiply(M[k][c]));
+          M[r][c] = (k == 0) ? t : t.divide(prev);
         }
-        Rational tmp = x[r].multiply(A[c][c]).subtract(x[c].multiply(A[r][c]));
-        x[r] = tmp;
+        M[r][k] = BigInteger.ZERO;
       }
+      prev = M[k][k];
     }
-    if (A[cL - 1][cL - 1].compareTo(BigInteger.ZERO) == 0)
-      throw new ArithmeticException("Zero determinant of main matrix");
-                        /* backward elimination */
-    for (int r = cL - 1; r >= 0; r--) {
-      x[r] = x[r].divide(A[r][r]);
-      for (int rpr = r - 1; rpr >= 0; rpr--)
-        x[rpr] = x[rpr].subtract(x[r].multiply(A[rpr][r]));
-    }
+    return sig;
+  }
 
-    return x;
+  /**
+   * A copy of a matrix.
+   *
+   * @param A The matrix.
+   * @return A new matrix with the same (immutable) elements.
+   * @since 2026-10-19
+   */
+  static private BigInteger[][] copy(final BigInteger[][] A) {
+    BigInteger[][] M = new BigInteger[A.length][];
+    for (int r = 0; r < A.length; r++)
+      M[r] = A[r].clone();
+    return M;
   }
 
   /**
@@ -2,6 +2,7 @@ package math;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Scanner;
 import java.util.Vector;
 
@@ -238,6 +239,31 @@ public class BigIntegerPoly implements Cloneable {
     return resul;
   } /* multiply */
 
+  /**
+   * The number of coefficients of the shorter factor from which on multiply() switches from the
+   * schoolbook convolution to Karatsuba's splitting.
+   *
+   * @since 2026-10-19
+   */
+  static final int KARATSUBA_THRESHOLD = 24;
+
+  /**
+   * The number of coefficients of the shorter factor from which on multiply() uses
+   * Kronecker substitution into a single BigInteger product, if the coefficients are not
+   * longer than KRONECKER_MAXBITS.
+   *
+   * @since 2026-10-19
+   */
+  static private final int KRONECKER_THRESHOLD = 32;
+
+  /**
+   * The maximum bit length of the coefficients for the Kronecker substitution.
+   * For longer coefficients the padding between them makes the single product slower than Karatsuba's method.
+   *
+   * @since 2026-10-19
+   */
+  static private final int KRONECKER_MAXBITS = 384;
+
   /**
    * Multiply by another polynomial.
    * Equivalent to a convolution of the polynomial coefficients.
@@ -248,21 +274,201 @@ public class BigIntegerPoly implements Cloneable {
    */
   public BigIntegerPoly multiply(final BigIntegerPoly val) {
     BigIntegerPoly resul = new BigIntegerPoly();
-                /* the degree of the result is the sum of the two degrees.
-                */
-    final int nmax = degree() + val.degree();
-    for (int n = 0; n <= nmax; n++) {
-      BigInteger coef = BigInteger.ZERO;
-      for (int nleft = 0; nleft <= n; nleft++)
-        coef = coef.add(at(nleft).multiply(val.at(n - nleft)));
-      resul.set(n, coef);
-    }
+    if (a.size() == 0 || val.a.size() == 0)
+      return resul;
+    final BigInteger[] c = multiply(a.toArray(new BigInteger[0]), val.a.toArray(new BigInteger[0]));
+    for (BigInteger cEl : c)
+      resul.a.add(cEl);
     resul.simplify();
     return resul;
   } /* multiply */
 
+  /**
+   * Convolution of two lists of coefficients.
+   * Dispatches to the schoolbook, Karatsuba or Kronecker multiplication
+   * depending on the length of the shorter list.
+   *
+   * @param x the coefficients of the first factor, ascending powers, at least one.
+   * @param y the coefficients of the second factor, ascending powers, at least one.
+   * @return the x.length+y.length-1 coefficients of the product.
+   * @since 2026-10-19
+   */
+  static BigInteger[] multiply(final BigInteger[] x, final BigInteger[] y) {
+    final int nmin = Math.min(x.length, y.length);
+    if (nmin >= KRONECKER_THRESHOLD) {
+      final int bx = maxBitLength(x);
+      final int by = maxBitLength(y);
+      if (Math.max(bx, by) <= KRONECKER_MAXBITS)
+        return multiplyKronecker(x, bx, y, by);
+    }
+    if (nmin >= KARATSUBA_THRESHOLD)
+      return multiplyKaratsuba(x, y);
+    else
+      return multiplySchool(x, y);
+  } /* multiply */
+
+  /**
+   * Convolution of two lists of coefficients by the schoolbook method.
+   *
+   * @param x the coefficients of the first factor.
+   * @param y the coefficients of the second factor.
+   * @return the x.length+y.length-1 coefficients of the product.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] multiplySchool(final BigInteger[] x, final BigInteger[] y) {
+    final BigInteger[] c = new BigInteger[x.length + y.length - 1];
+    Arrays.fill(c, BigInteger.ZERO);
+    for (int i = 0; i < x.length; i++) {
+      if (x[i].signum() == 0)
+        continue;
+      for (int j = 0; j < y.length; j++)
+        c[i + j] = c[i + j].add(x[i].multiply(y[j]));
+    }
+    return c;
+  } /* multiplySchool */
+
+  /**
+   * Convolution of two lists of coefficients by Karatsuba's method.
+   * With x = x0+x1*z^h and y = y0+y1*z^h, the product is x0*y0 + ((x0+x1)*(y0+y1)-x0*y0-x1*y1)*z^h + x1*y1*z^(2h),
+   * three half-size products instead of four. If one list is much longer than the other, it is
+   * cut into blocks of the length of the shorter one.
+   *
+   * @param x the coefficients of the first factor.
+   * @param y the coefficients of the second factor.
+   * @return the x.length+y.length-1 coefficients of the product.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] multiplyKaratsuba(final BigInteger[] x, final BigInteger[] y) {
+    if (x.length < y.length)
+      return multiplyKaratsuba(y, x);
+    final int n = y.length;
+    final BigInteger[] c = new BigInteger[x.length + n - 1];
+    Arrays.fill(c, BigInteger.ZERO);
+    if (x.length > n) {
+                        /* unbalanced: blocks of x of length n */
+      for (int off = 0; off < x.length; off += n) {
+        final BigInteger[] xb = Arrays.copyOfRange(x, off, Math.min(off + n, x.length));
+        final BigInteger[] p = multiply(xb, y);
+        for (int i = 0; i < p.length; i++)
+          c[off + i] = c[off + i].add(p[i]);
+      }
+      return c;
+    }
+
+    final int h = n / 2;
+    final BigInteger[] x0 = Arrays.copyOfRange(x, 0, h);
+    final BigInteger[] x1 = Arrays.copyOfRange(x, h, n);
+    final BigInteger[] y0 = Arrays.copyOfRange(y, 0, h);
+    final BigInteger[] y1 = Arrays.copyOfRange(y, h, n);
+                /* x0+x1 and y0+y1 have the length n-h of the upper halves */
+    final BigInteger[] xs = x1.clone();
+    final BigInteger[] ys = y1.clone();
+    for (int i = 0; i < h; i++) {
+      xs[i] = xs[i].add(x0[i]);
+      ys[i] = ys[i].add(y0[i]);
+    }
+    final BigInteger[] z0 = multiply(x0, y0);
+    final BigInteger[] z2 = multiply(x1, y1);
+    final BigInteger[] z1 = multiply(xs, ys);
+    for (int i = 0; i < z1.length; i++) {
+      BigInteger m = z1[i].subtract(z2[i]);
+      if (i < z0.length) {
+        m = m.subtract(z0[i]);
+        c[i] = c[i].add(z0[i]);
+      }
+      c[i + h] = c[i + h].add(m);
+      c[i + 2 * h] = c[i + 2 * h].add(z2[i]);
+    }
+    return c;
+  } /* multiplyKaratsuba */
+
+  /**
+   * Convolution of two lists of coefficients by Kronecker substitution.
+   * Both polynomials are evaluated at z=2^k, with k large enough that each coefficient of the product
+   * fits into k bits including its sign, and the single BigInteger product is cut back into the coefficients.
+   *
+   * @param x  the coefficients of the first factor.
+   * @param bx the maximum bit length of the coefficients in x.
+   * @param y  the coefficients of the second factor.
+   * @param by the maximum bit length of the coefficients in y.
+   * @return the x.length+y.length-1 coefficients of the product.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] multiplyKronecker(final BigInteger[] x, final int bx, final BigInteger[] y,
+                                                final int by) {
+                /* |c_i| <= min(len) * 2^bx * 2^by, plus one bit for the sign */
+    final int k = bx + by + 32 - Integer.numberOfLeadingZeros(Math.min(x.length, y.length)) + 1;
+    final BigInteger z = kroneckerPack(x, 0, x.length, k).multiply(kroneckerPack(y, 0, y.length, k));
+    final BigInteger[] c = new BigInteger[x.length + y.length - 1];
+    kroneckerUnpack(z, c, 0, c.length, k);
+    return c;
+  } /* multiplyKronecker */
+
+  /**
+   * The largest bit length of a list of integers.
+   *
+   * @param x the list of integers.
+   * @return the maximum of the bitLength() of the elements.
+   * @since 2026-10-19
+   */
+  static private int maxBitLength(final BigInteger[] x) {
+    int b = 0;
+    for (BigInteger xEl : x)
+      b = Math.max(b, xEl.bitLength());
+    return b;
+  } /* maxBitLength */
+
+  /**
+   * Evaluate a polynomial at 2^k.
+   * The list is split in halves, so the cost is dominated by the shifts and additions of the top level.
+   *
+   * @param x    the coefficients.
+   * @param from the index of the first coefficient, included.
+   * @param to   the index of the last coefficient, excluded.
+   * @param k    the number of bits per coefficient.
+   * @return sum over i of x[from+i]*2^(k*i).
+   * @since 2026-10-19
+   */
+  static private BigInteger kroneckerPack(final BigInteger[] x, final int from, final int to, final int k) {
+    if (to - from == 1)
+      return x[from];
+    final int mid = (from + to) >>> 1;
+    final BigInteger lo = kroneckerPack(x, from, mid, k);
+    final BigInteger hi = kroneckerPack(x, mid, to, k);
+    return hi.shiftLeft(k * (mid - from)).add(lo);
+  } /* kroneckerPack */
+
+  /**
+   * Split an integer into signed digits to the base 2^k.
+   * Each digit is in the range -2^(k-1) to 2^(k-1)-1.
+   *
+   * @param z    the value to be split.
+   * @param c    the array of the digits.
+   * @param from the index of the lowest digit to be set.
+   * @param to   the index of the highest digit to be set, excluded.
+   * @param k    the number of bits per digit.
+   * @since 2026-10-19
+   */
+  static private void kroneckerUnpack(final BigInteger z, final BigInteger[] c, final int from, final int to,
+                                      final int k) {
+    if (to - from == 1) {
+      c[from] = z;
+      return;
+    }
+    final int mid = (from + to) >>> 1;
+    final int sh = k * (mid - from);
+                /* the low part in the signed range -2^(sh-1)..2^(sh-1)-1, and the remaining high part */
+    BigInteger lo = z.and(BigInteger.ONE.shiftLeft(sh).subtract(BigInteger.ONE));
+    if (lo.testBit(sh - 1))
+      lo = lo.subtract(BigInteger.ONE.shiftLeft(sh));
+    final BigInteger hi = z.subtract(lo).shiftRight(sh);
+    kroneckerUnpack(lo, c, from, mid, k);
+    kroneckerUnpack(hi, c, mid, to, k);
+  } /* kroneckerUnpack */
+
   /**
    * Raise to a positive power.
+   * Uses repeated squaring along the binary representation of the exponent.
    *
    * @param n the exponent of the power
    * @return the n-th power of this.
@@ -273,8 +479,13 @@ public class BigIntegerPoly implements Cloneable {
     if (n < 0)
       throw new ArithmeticException("negative polynomial power " + n);
     else {
-      for (int i = 1; i <= n; i++)
-        resul = resul.multiply(this);
+      BigIntegerPoly sq = this;
+      for (int e = n; e > 0; e >>= 1) {
+        if ((e & 1) != 0)
+          resul = resul.multiply(sq);
+        if (e > 1)
+          sq = sq.multiply(sq);
+      }
       resul.simplify();
       return resul;
     }
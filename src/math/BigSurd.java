@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.security.ProviderException;
+import java.util.Collections;
+import java.util.Vector;
 
 /**
  * Square roots on the real line.
@@ -36,6 +38,18 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
    */
   Rational disc;
 
+  /**
+   * The prime factorization of the numerator of disc, or null if not known.
+   * If known, the multiplications and divisions of surds and the normalization to square-free
+   * discriminants use the exponents of the primes instead of factorizations of the products.
+   */
+  IFactor discNum;
+
+  /**
+   * The prime factorization of the denominator of disc, or null if not known.
+   */
+  IFactor discDen;
+
   /**
    * Default ctor, which represents the zero.
    *
@@ -67,6 +81,32 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
     normalizeG();
   } /* ctor */
 
+  /**
+   * ctor given the prefactor and the factorized numerator and denominator of the root.
+   * This creates an object of value a*sqrt(num/den). The square-free discriminant is found
+   * from the parities of the prime exponents, without factorizations of integers, and the
+   * factorization of the discriminant is kept for subsequent multiplications and divisions.
+   *
+   * @param a   the prefactor.
+   * @param num the numerator of the discriminant, non-negative.
+   * @param den the denominator of the discriminant, positive.
+   * @since 2026-10-19
+   */
+  public BigSurd(Rational a, IFactor num, IFactor den) {
+    this.pref = a;
+    if (den.n.signum() == 0)
+      throw new ArithmeticException("Zero denominator in discriminant");
+    if (num.n.signum() < 0 || den.n.signum() < 0)
+      throw new ProviderException("Not implemented: imaginary surds");
+    if (num.n.signum() == 0) {
+      pref = Rational.ZERO;
+      disc = Rational.ZERO;
+    } else {
+      normalize(num, den);
+      normalizeG();
+    }
+  } /* ctor */
+
   /**
    * ctor given the numerator and denominator of the root.
    * This creates an object of value sqrt(a/b).
@@ -107,6 +147,8 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
     BigSurd cl = new BigSurd();
     cl.pref = fclon;
     cl.disc = dclon;
+    cl.discNum = discNum;
+    cl.discDen = discDen;
     return cl;
   } /* BigSurd.clone */
 
@@ -138,6 +180,8 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
    * @since 2011-02-12
    */
   public BigSurd multiply(final BigSurd val) {
+    if (discNum != null && val.discNum != null)
+      return new BigSurd(pref.multiply(val.pref), discNum.multiply(val.discNum), discDen.multiply(val.discDen));
     return new BigSurd(pref.multiply(val.pref), disc.multiply(val.disc));
   } /* BigSurd.multiply */
 
@@ -150,7 +194,7 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
    * @since 2011-02-15
    */
   public BigSurd multiply(final Rational val) {
-    return new BigSurd(pref.multiply(val), disc);
+    return withPref(pref.multiply(val));
   } /* BigSurd.multiply */
 
   /**
@@ -162,7 +206,7 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
    * @since 2011-02-12
    */
   public BigSurd multiply(final BigInteger val) {
-    return new BigSurd(pref.multiply(val), disc);
+    return withPref(pref.multiply(val));
   } /* BigSurd.multiply */
 
   /**
@@ -203,6 +247,8 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
   public BigSurd divide(final BigSurd val) {
     if (val.signum() == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
+    if (discNum != null && val.discNum != null)
+      return new BigSurd(pref.divide(val.pref), discNum.multiply(val.discDen), discDen.multiply(val.discNum));
     return new BigSurd(pref.divide(val.pref), disc.divide(val.disc));
   } /* BigSurd.divide */
 
@@ -217,7 +263,7 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
   public BigSurd divide(final BigInteger val) {
     if (val.signum() == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
-    return new BigSurd(pref.divide(val), disc);
+    return withPref(pref.divide(val));
   } /* BigSurd.divide */
 
   /**
@@ -231,7 +277,7 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
   public BigSurd divide(int val) {
     if (val == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
-    return new BigSurd(pref.divide(val), disc);
+    return withPref(pref.divide(val));
   } /* BigSurd.divide */
 
   /**
@@ -258,9 +304,22 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
    * @since 2011-02-12
    */
   public BigSurd abs() {
-    return new BigSurd(pref.abs(), disc);
+    return withPref(pref.abs());
   }
 
+  /**
+   * A surd with the same discriminant and another prefactor.
+   *
+   * @param a The new prefactor.
+   * @return The value a*sqrt(disc), normalized.
+   * @since 2026-10-19
+   */
+  private BigSurd withPref(final Rational a) {
+    if (discNum != null)
+      return new BigSurd(a, discNum, discDen);
+    return new BigSurd(a, disc);
+  } /* BigSurd.withPref */
+
   /**
    * Compares the value of this with another constant.
    *
@@ -433,6 +492,115 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
       pref = Rational.ZERO;
   } /* BigSurd.normalize */
 
+  /**
+   * Normalize to squarefree discriminant given the prime factorization of the discriminant.
+   * The result is the same as of normalize() applied to the discriminant num/den, which
+   * is the ratio reduced to lowest terms: primes with an odd exponent in num/den stay under the root,
+   * the other powers of the primes move to the prefactor.
+   *
+   * @param num The numerator of the discriminant, positive.
+   * @param den The denominator of the discriminant, positive.
+   * @since 2026-10-19
+   */
+  protected void normalize(final IFactor num, final IFactor den) {
+    Vector<Integer> nPrimes = new Vector<Integer>();
+    Vector<Integer> dPrimes = new Vector<Integer>();
+    BigInteger numC = BigInteger.ONE;
+    BigInteger denC = BigInteger.ONE;
+    BigInteger sqn = BigInteger.ONE;
+    BigInteger sqd = BigInteger.ONE;
+
+                /* scan both representations left to right, increasing primes. The representation
+                * of 1 is the single pair 1^0.
+                */
+    int in = 0;
+    int id = 0;
+    while (in < num.primeExp.size() || id < den.primeExp.size()) {
+      final int pn = (in < num.primeExp.size()) ? num.primeExp.elementAt(in) : Integer.MAX_VALUE;
+      final int pd = (id < den.primeExp.size()) ? den.primeExp.elementAt(id) : Integer.MAX_VALUE;
+      final int p = Math.min(pn, pd);
+      int e = 0;
+      if (pn == p) {
+        e += num.primeExp.elementAt(in + 1);
+        in += 2;
+      }
+      if (pd == p) {
+        e -= den.primeExp.elementAt(id + 1);
+        id += 2;
+      }
+      if (p <= 1 || e == 0)
+        continue;
+      final BigInteger bp = BigInteger.valueOf(p);
+                        /* exponent of the reduced fraction: e in the numerator if positive, -e in the denominator if negative
+                        */
+      if (e > 0) {
+        sqn = sqn.multiply(bp.pow(e / 2));
+        if (e % 2 != 0) {
+          nPrimes.add(p);
+          numC = numC.multiply(bp);
+        }
+      } else {
+        sqd = sqd.multiply(bp.pow(-e / 2));
+        if (e % 2 != 0) {
+          dPrimes.add(p);
+          denC = denC.multiply(bp);
+        }
+      }
+    }
+    pref = pref.multiply(new Rational(sqn, sqd));
+    disc = new Rational(numC, denC);
+    discNum = squareFree(nPrimes, numC);
+    discDen = squareFree(dPrimes, denC);
+  } /* BigSurd.normalize */
+
+  /**
+   * The factorization of a square-free integer.
+   *
+   * @param primes The prime factors, ascending.
+   * @param n      The product of the primes.
+   * @return The factorization of n.
+   * @since 2026-10-19
+   */
+  static private IFactor squareFree(final Vector<Integer> primes, final BigInteger n) {
+    if (primes.size() == 0)
+      return IFactor.ONE;
+    IFactor f = new IFactor(0);
+    f.n = n;
+    for (Integer p : primes) {
+      f.primeExp.add(p);
+      f.primeExp.add(1);
+    }
+    return f;
+  } /* BigSurd.squareFree */
+
+  /**
+   * Update the factorizations of the discriminant after primes moved between its numerator and denominator.
+   *
+   * @since 2026-10-19
+   */
+  private void refactor() {
+    Vector<Integer> nPrimes = new Vector<Integer>();
+    Vector<Integer> dPrimes = new Vector<Integer>();
+                /* all primes of the discriminant are known; each is in either the numerator or the denominator.
+                */
+    Vector<Integer> all = new Vector<Integer>();
+    for (int i = 0; i < discNum.primeExp.size(); i += 2)
+      if (discNum.primeExp.elementAt(i) > 1)
+        all.add(discNum.primeExp.elementAt(i));
+    for (int i = 0; i < discDen.primeExp.size(); i += 2)
+      if (discDen.primeExp.elementAt(i) > 1)
+        all.add(discDen.primeExp.elementAt(i));
+    Collections.sort(all);
+    for (Integer p : all) {
+      if (disc.numer().mod(BigInteger.valueOf(p)).signum() == 0)
+        nPrimes.add(p);
+      else
+        dPrimes.add(p);
+    }
+    discNum = squareFree(nPrimes, disc.numer());
+    discDen = squareFree(dPrimes, disc.denom());
+  } /* BigSurd.refactor */
+
   /**
    * Normalize to coprime numerator and denominator in prefactor and discriminant
    *
@@ -451,6 +619,8 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
                         */
       disc = disc.multiply(d);
       disc = disc.multiply(d);
+      if (discNum != null)
+        refactor();
     }
                 /* Is there a common factor between the denominator of the prefactor
                 * and the numerator of the discriminant ?
@@ -463,6 +633,8 @@ public class BigSurd implements Cloneable, Comparable<BigSurd> {
                         */
       disc = disc.divide(d);
       disc = disc.divide(d);
+      if (discNum != null)
+        refactor();
     }
   } /* BigSurd.normalizeG */
 
@@ -3,6 +3,9 @@ package math;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -135,6 +138,11 @@ public class BigSurdVec implements Comparable<BigSurdVec> {
   /**
    * Combine terms that can be written as a single surd.
    * This unites for example the terms sqrt(90) and sqrt(10) to 4*sqrt(10).
+   * Two surds a*sqrt(n/d) with square-free coprime n and d are rational multiples of each other
+   * if and only if they have the same square-free kernel n*d; the value is (a/d)*sqrt(n*d).
+   * The terms are therefore collected in a hash map from the kernel to the accumulated rational
+   * prefactor (a/d), which is linear in the number of terms. The terms keep the order of their first
+   * occurrence; a kernel whose terms cancel is removed.
    *
    * @author Richard J. Mathar
    * @since 2012-02-15
@@ -145,39 +153,43 @@ public class BigSurdVec implements Comparable<BigSurdVec> {
     if (terms.size() <= 1)
       return;
 
-    Vector<BigSurd> newter = new Vector<BigSurd>();
-    newter.add(terms.firstElement());
-                /* add j-th element to the existing vector and combine were possible
+                /* the first term of each kernel, and the sum of the prefactors of the kernel.
+                * The sum is null as long as the first term is the only one with that kernel.
                 */
-    for (int j = 1; j < terms.size(); j++) {
-      BigSurd todo = terms.elementAt(j);
-      boolean merged = false;
-      for (int ex = 0; ex < newter.size(); ex++) {
-        BigSurd v = newter.elementAt(ex);
-                                /* try to merge terms[j] and newter[ex].
-                                * todo = r * v with r a rational number is needed. 
-                                * Replaces v with v+todo = v*(1+r) if this reduction works.
+    LinkedHashMap<BigInteger, BigSurd> first = new LinkedHashMap<BigInteger, BigSurd>();
+    HashMap<BigInteger, Rational> sum = new HashMap<BigInteger, Rational>();
+    for (BigSurd todo : terms) {
+      if (todo.signum() == 0)
+        continue;
+      final BigInteger kern = todo.disc.numer().multiply(todo.disc.denom());
+      final BigSurd v = first.get(kern);
+      if (v == null)
+        first.put(kern, todo);
+      else {
+        Rational acc = sum.get(kern);
+        if (acc == null)
+          acc = v.pref.divide(v.disc.denom());
+        acc = acc.add(todo.pref.divide(todo.disc.denom()));
+                                /* eliminate accidental zeros
                                 */
-        BigSurd r = todo.divide(v);
-        if (r.isRational()) {
-                                        /* compute r+1 */
-          Rational newpref = r.toRational().add(1);
-                                        /* eliminate accidental zeros; overwrite with v*(1+r).
-                                        */
-          if (newpref.compareTo(Rational.ZERO) == 0)
-            newter.removeElementAt(ex);
-          else {
-            v = v.multiply(newpref);
-            newter.setElementAt(v, ex);
-          }
-          merged = true;
-          break;
-        }
+        if (acc.signum() == 0) {
+          first.remove(kern);
+          sum.remove(kern);
+        } else
+          sum.put(kern, acc);
       }
-                        /* append if none of the existing elements matched
-                        */
-      if (!merged)
-        newter.add(todo);
+    }
+
+    Vector<BigSurd> newter = new Vector<BigSurd>(first.size());
+    for (Map.Entry<BigInteger, BigSurd> e : first.entrySet()) {
+      final Rational acc = sum.get(e.getKey());
+      final BigSurd v = e.getValue();
+      if (acc == null)
+        newter.add(v);
+      else
+                                /* v*(acc/(pref/d)), which keeps the discriminant of v
+                                */
+        newter.add(v.multiply(acc.divide(v.pref.divide(v.disc.denom()))));
     }
 
                 /* overwrite old version */
@@ -6,6 +6,8 @@ import java.util.Vector;
 /**
  * Euler numbers
  * <a href="http://oeis.org/A000364">A000364</a> in the OEIS.
+ * The numbers are generated by Seidel's boustrophedon (Entringer numbers), in which each row of the
+ * triangle is obtained from the previous one by additions. E_n is the last element of row 2n.
  *
  * @author Richard J. Mathar
  * @since 2008-10-30
@@ -16,45 +18,48 @@ public class Euler {
   */
   static protected Vector<BigInteger> a = new Vector<BigInteger>();
 
+  /*
+  * The last row of the boustrophedon, row 2*(a.size()-1). Row k has k+1 elements.
+  */
+  static private BigInteger[] row = {BigInteger.ONE};
+
   /**
-   * Ctor(). Fill the hash list initially with E_0 to E_3.
+   * Ctor(). Fill the hash list initially with E_0.
    *
    * @author Richard J. Mathar
    */
   public Euler() {
-    if (a.size() == 0) {
-      a.add(BigInteger.ONE);
-      a.add(BigInteger.ONE);
-      a.add(new BigInteger("5"));
-      a.add(new BigInteger("61"));
+    synchronized (a) {
+      if (a.size() == 0)
+        a.add(BigInteger.ONE);
     }
   }
 
   /**
    * Compute a coefficient in the internal table.
+   * All coefficients up to n are added in one pass over the rows of the triangle.
    *
    * @param n the zero-based index of the coefficient. n=0 for the E_0 term.
    * @author Richard J. Mathar
    */
   protected void set(final int n) {
-    while (n >= a.size()) {
-      BigInteger val = BigInteger.ZERO;
-      boolean sigPos = true;
-      int thisn = a.size();
-      for (int i = thisn - 1; i > 0; i--) {
-        BigInteger f = new BigInteger("" + a.elementAt(i).toString());
-        f = f.multiply(BigIntegerMath.binomial(2 * thisn, 2 * i));
-        if (sigPos)
-          val = val.add(f);
-        else
-          val = val.subtract(f);
-        sigPos = !sigPos;
+                /* The list is shared by all threads; the lock keeps the entries in order.
+                */
+    synchronized (a) {
+      while (n >= a.size()) {
+                        /* two rows per Euler number; the odd rows end in the tangent numbers.
+                        * T(k,0)=0, T(k,j)=T(k,j-1)+T(k-1,k-j).
+                        */
+        for (int r = 0; r < 2; r++) {
+          final int k = row.length;
+          BigInteger[] nrow = new BigInteger[k + 1];
+          nrow[0] = BigInteger.ZERO;
+          for (int j = 1; j <= k; j++)
+            nrow[j] = nrow[j - 1].add(row[k - j]);
+          row = nrow;
+        }
+        a.add(row[row.length - 1]);
       }
-      if (thisn % 2 == 0)
-        val = val.subtract(BigInteger.ONE);
-      else
-        val = val.add(BigInteger.ONE);
-      a.add(val);
     }
   }
 
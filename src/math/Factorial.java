@@ -1,77 +1,220 @@
 package math;
 
 import java.math.BigInteger;
-import java.util.Vector;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
  * Factorials.
+ * The values are computed with Luschny's prime swing algorithm, in which n! is the
+ * square of (n/2)! times the swinging factorial, a product of prime powers. The prime
+ * factorization follows from Legendre's formula, without factoring the individual terms.
+ * Only the factorials at multiples of CHECKPOINT are kept, up to a total of CACHE_BITS.
  *
  * @author Richard J. Mathar
  * @since 2012-02-15 Storage of the values based on IFactor, not BigInteger.
  */
 public class Factorial {
   /**
-   * The list of all factorials as a vector.
+   * The distance between the cached factorials.
+   *
+   * @since 2026-10-19
+   */
+  static private final int CHECKPOINT = 64;
+
+  /**
+   * The maximum total bit length of the cached factorials.
+   *
+   * @since 2026-10-19
    */
-  static Vector<IFactor> a = new Vector<IFactor>();
+  static private final long CACHE_BITS = 1L << 27;
+
+  /**
+   * The cached factorials, indexed by their argument.
+   */
+  static TreeMap<Integer, BigInteger> a = new TreeMap<Integer, BigInteger>();
+
+  /**
+   * The total bit length of the values in a.
+   */
+  static long aBits = 0;
 
   /**
    * ctor().
-   * Initialize the vector of the factorials with 0!=1 and 1!=1.
+   * Initialize the cache of the factorials with 0!=1.
    *
    * @author Richard J. Mathar
    */
   public Factorial() {
-    if (a.size() == 0) {
-      a.add(IFactor.ONE);
-      a.add(IFactor.ONE);
+    synchronized (a) {
+      if (a.size() == 0)
+        a.put(0, BigInteger.ONE);
     }
   } /* ctor */
 
   /**
    * Compute the factorial of the non-negative integer.
+   * The value is the product of the next lower checkpoint and the remaining factors.
    *
    * @param n the argument to the factorial, non-negative.
    * @return the factorial of n.
    * @author Richard J. Mathar
    */
   public BigInteger at(int n) {
-                /* extend the internal list if needed.
-                */
-    growto(n);
-    return a.elementAt(n).n;
+    if (n < 0)
+      throw new ArithmeticException("Negative argument " + n);
+    final int c = n - n % CHECKPOINT;
+    BigInteger cfac;
+    synchronized (a) {
+      cfac = a.get(c);
+    }
+    if (cfac == null) {
+      Map.Entry<Integer, BigInteger> lo;
+      synchronized (a) {
+        lo = a.floorEntry(c);
+      }
+                        /* a short product from a lower checkpoint, else the prime swing algorithm
+                        */
+      if (lo != null && c - lo.getKey() <= 4 * CHECKPOINT)
+        cfac = lo.getValue().multiply(product(lo.getKey() + 1, c));
+      else
+        cfac = swingFactorial(c);
+      synchronized (a) {
+        if (!a.containsKey(c) && aBits + cfac.bitLength() <= CACHE_BITS) {
+          a.put(c, cfac);
+          aBits += cfac.bitLength();
+        }
+      }
+    }
+    return (n == c) ? cfac : cfac.multiply(product(c + 1, n));
   } /* at */
 
   /**
    * Compute the factorial of the non-negative integer.
+   * The exponent of the prime p is given by Legendre's formula.
    *
    * @param n the argument to the factorial, non-negative.
    * @return the factorial of n.
    * @author Richard J. Mathar
    */
   public IFactor toIfactor(int n) {
-                /* extend the internal list if needed.
-                */
-    growto(n);
-    return a.elementAt(n);
+    if (n < 2) {
+      if (n < 0)
+        throw new ArithmeticException("Negative argument " + n);
+      return IFactor.ONE;
+    }
+    IFactor f = new IFactor(0);
+    for (int p : Prime.sieve(n)) {
+      f.primeExp.add(p);
+      f.primeExp.add(exponent(n, p));
+    }
+    f.n = at(n);
+    return f;
   } /* at */
 
   /**
-   * Extend the internal table to cover up to n!
+   * The exponent of a prime in a factorial.
    *
-   * @param n The maximum factorial to be supported.
-   * @author Richard J. Mathar
-   * @since 2012-02-15
+   * @param n the argument to the factorial, non-negative.
+   * @param p the prime.
+   * @return The exponent of p in n!, the sum of floor(n/p^k) over k>=1 by Legendre's formula.
+   * @since 2026-10-19
+   */
+  static public int exponent(int n, final int p) {
+    int e = 0;
+    while (n >= p) {
+      n /= p;
+      e += n;
+    }
+    return e;
+  } /* exponent */
+
+  /**
+   * The factorial by the prime swing algorithm.
+   * n! = 2^(n-s) times the odd part, where s is the number of ones in the binary representation of n.
+   *
+   * @param n the argument to the factorial, non-negative.
+   * @return the factorial of n.
+   * @since 2026-10-19
+   */
+  static private BigInteger swingFactorial(final int n) {
+    if (n < 2)
+      return BigInteger.ONE;
+    final int[] primes = Prime.sieve(n);
+    return oddFactorial(n, primes).shiftLeft(n - Integer.bitCount(n));
+  } /* swingFactorial */
+
+  /**
+   * The odd part of the factorial.
+   *
+   * @param n      the argument to the factorial.
+   * @param primes the primes up to at least n.
+   * @return n! divided by the largest power of 2 that divides it.
+   * @since 2026-10-19
+   */
+  static private BigInteger oddFactorial(final int n, final int[] primes) {
+    if (n < 3)
+      return BigInteger.ONE;
+    final BigInteger h = oddFactorial(n / 2, primes);
+    return h.multiply(h).multiply(swing(n, primes));
+  } /* oddFactorial */
+
+  /**
+   * The odd part of the swinging factorial n!/((n/2)!)^2.
+   * The exponent of the odd prime p is the number of odd floor(n/p^k), k>=1.
+   *
+   * @param n      the argument.
+   * @param primes the primes up to at least n.
+   * @return the odd part of n!/(floor(n/2)!)^2.
+   * @since 2026-10-19
+   */
+  static private BigInteger swing(final int n, final int[] primes) {
+    long[] f = new long[primes.length];
+    int nf = 0;
+    long acc = 1;
+    for (int i = 1; i < primes.length && primes[i] <= n; i++) {
+      final int p = primes[i];
+      long pe = 1;
+      for (int q = n / p; q > 0; q /= p)
+        if ((q & 1) != 0)
+          pe *= p;
+      if (pe == 1)
+        continue;
+                        /* collect the prime powers in longs */
+      if (acc > Long.MAX_VALUE / pe) {
+        f[nf++] = acc;
+        acc = 1;
+      }
+      acc *= pe;
+    }
+    f[nf++] = acc;
+    return BigIntegerMath.product(f, 0, nf);
+  } /* swing */
+
+  /**
+   * The product of the integers in a range.
+   *
+   * @param lo the first factor.
+   * @param hi the last factor.
+   * @return lo*(lo+1)*...*hi, which is 1 if hi&lt;lo.
+   * @since 2026-10-19
    */
-  private void growto(int n) {
-                /* extend the internal list if needed. Size to be 2 for n<=1, 3 for n<=2 etc.
-                */
-    while (a.size() <= n) {
-      final int lastn = a.size() - 1;
-      final IFactor nextn = new IFactor(lastn + 1);
-      a.add(a.elementAt(lastn).multiply(nextn));
+  static private BigInteger product(final int lo, final int hi) {
+    if (hi < lo)
+      return BigInteger.ONE;
+    long[] f = new long[hi - lo + 1];
+    int nf = 0;
+    long acc = 1;
+    for (long k = lo; k <= hi; k++) {
+      if (acc > Long.MAX_VALUE / k) {
+        f[nf++] = acc;
+        acc = 1;
+      }
+      acc *= k;
     }
-  } /* growto */
+    f[nf++] = acc;
+    return BigIntegerMath.product(f, 0, nf);
+  } /* product */
 
 } /* Factorial */
@@ -2,6 +2,7 @@ package math;
 
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.Random;
 import java.util.Vector;
 
 /**
@@ -26,6 +27,56 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
   */
   public Vector<Integer> primeExp;
 
+  /**
+   * The limit of the trial divisions by small primes.
+   * Cofactors below the square of this limit are prime.
+   *
+   * @since 2026-10-19
+   */
+  static private final int TRIAL_LIMIT = 1 << 16;
+
+  /**
+   * The primes below TRIAL_LIMIT.
+   */
+  static private final int[] SMALL_PRIMES = Prime.sieve(TRIAL_LIMIT);
+
+  /**
+   * The maximum number of iterations of Pollard's rho method before switching to ECM.
+   *
+   * @since 2026-10-19
+   */
+  static private final long RHO_ITERATIONS = 1L << 20;
+
+  /**
+   * The default stage 1 bounds of the elliptic curve method, tried in ascending order.
+   * They are tuned for factors of 15, 20, 25, 30 and 35 digits. Other schedules are passed to factor().
+   *
+   * @since 2026-10-19
+   */
+  static private final int[] ECM_B1 = {2000, 11000, 50000, 250000, 1000000};
+
+  /**
+   * The default number of curves of the elliptic curve method for each bound in ECM_B1.
+   *
+   * @since 2026-10-19
+   */
+  static private final int[] ECM_CURVES = {25, 90, 300, 700, 1800};
+
+  /**
+   * The ratio of the stage 2 and stage 1 bounds of the elliptic curve method.
+   *
+   * @since 2026-10-19
+   */
+  static private final int ECM_B2_RATIO = 50;
+
+  /**
+   * The time in milliseconds after which the factorization by the constructors is abandoned.
+   * Other limits are passed to factor() directly.
+   *
+   * @since 2026-10-19
+   */
+  static private final long TIME_BUDGET = 60000L;
+
   final public static IFactor ONE = new IFactor(1);
 
   final public static IFactor ZERO = new IFactor(0);
@@ -38,68 +89,47 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
    * @author Richard J. Mathar
    */
   public IFactor(int number) {
-    n = new BigInteger("" + number);
-    primeExp = new Vector<>();
-    if (number > 1) {
-      int primeIndex = 0;
-      Prime primes = new Prime();
-                        /* Test division against all primes.
-                        */
-      while (number > 1) {
-        int ex = 0;
-                                /* primeIndex=0 refers to 2, =1 to 3, =2 to 5, =3 to 7 etc
-                                */
-        int p = primes.at(primeIndex).intValue();
-        while (number % p == 0) {
-          ex++;
-          number /= p;
-          if (number == 1)
-            break;
-        }
-        if (ex > 0) {
-          primeExp.add(p);
-          primeExp.add(ex);
-        }
-        primeIndex++;
-      }
-    } else if (number == 1) {
-      primeExp.add(1);
-      primeExp.add(0);
-    }
+    this(BigInteger.valueOf(number));
   } /* IFactor */
 
   /**
    * Constructor given a BigInteger .
    * Constructor with an ordinary integer, calling a prime factor decomposition.
+   * The prime factors are read from the chain of smallest prime factors of the shared Sieve table
+   * if that covers the number, and are otherwise found by factor() within TIME_BUDGET.
    *
    * @param number the BigInteger representation of the integer
+   * @throws ArithmeticException if the time budget is exceeded, or if a prime factor
+   *                             is larger than the Integer range of the representation.
    * @author Richard J. Mathar
    */
   public IFactor(BigInteger number) {
     n = number;
     primeExp = new Vector<>();
+    final Sieve s = sieved();
     if (number.compareTo(BigInteger.ONE) == 0) {
       primeExp.add(1);
       primeExp.add(0);
-    } else {
-      int primeIndex = 0;
-      Prime primes = new Prime();
-      /* Test for division against all primes.
-      */
-      while (number.compareTo(BigInteger.ONE) == 1) {
+    } else if (s != null) {
+      for (int m = number.intValue(); m > 1; ) {
+        final int p = s.spf(m);
         int ex = 0;
-        BigInteger p = primes.at(primeIndex);
-        while (number.remainder(p).compareTo(BigInteger.ZERO) == 0) {
+        for (; m % p == 0; m /= p)
           ex++;
-          number = number.divide(p);
-          if (number.compareTo(BigInteger.ONE) == 0)
-            break;
-        }
-        if (ex > 0) {
-          primeExp.add(p.intValue());
-          primeExp.add(ex);
-        }
-        primeIndex++;
+        primeExp.add(p);
+        primeExp.add(ex);
+      }
+    } else if (number.compareTo(BigInteger.ONE) > 0) {
+      final Vector<BigInteger> f = factor(number, TIME_BUDGET);
+      for (int i = 0; i < f.size(); ) {
+        final BigInteger p = f.elementAt(i);
+        if (p.bitLength() > 31)
+          throw new ArithmeticException("Prime factor " + p + " of " + number + " exceeds the Integer range");
+        int ex = 0;
+        for (; i < f.size() && f.elementAt(i).compareTo(p) == 0; i++)
+          ex++;
+        primeExp.add(p.intValue());
+        primeExp.add(ex);
       }
     }
   } /* IFactor */
@@ -604,6 +634,9 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
    */
   @SuppressWarnings("unused")
   public int bigOmega() {
+    final Sieve s = sieved();
+    if (s != null)
+      return s.bigOmega(n.intValue());
     int result = 0;
     for (int i = 1; i < primeExp.size(); i += 2)
       result += primeExp.elementAt(i);
@@ -619,6 +652,9 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
    */
   @SuppressWarnings("unused")
   public int omega() {
+    final Sieve s = sieved();
+    if (s != null && n.compareTo(BigInteger.ONE) > 0)
+      return s.omega(n.intValue());
     return primeExp.size() / 2;
   } /* IFactor.omega */
 
@@ -639,6 +675,16 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
     return result;
   } /* IFactor.core */
 
+  /**
+   * The shared table of multiplicative functions if it covers this number.
+   *
+   * @return The table, or null if this number is not in its range.
+   * @since 2026-10-19
+   */
+  private Sieve sieved() {
+    return (n.bitLength() < 32) ? Sieve.lookup(n.longValue()) : null;
+  } /* IFactor.sieved */
+
   /**
    * The Moebius function.
    * 1 if n=1, else, if k is the number of distinct prime factors, return (-1)^k,
@@ -650,6 +696,9 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
   public int moebius() {
     if (n.compareTo(BigInteger.ONE) <= 0)
       return 1;
+    final Sieve s = sieved();
+    if (s != null)
+      return s.moebius(n.intValue());
                 /* accumulate number of different primes in k */
     int k = 1;
     for (int i = 0; i < primeExp.size(); i += 2) {
@@ -758,6 +807,357 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
     return result;
   } /* IFactor.toString */
 
+  /**
+   * Prime factorization of a positive integer.
+   * The small prime factors are removed by trial division, the cofactors are split
+   * by Pollard's rho method in Brent's variant and then by Lenstra's elliptic curve method,
+   * and each factor is tested for primality before it is split further.
+   *
+   * @param number The positive integer.
+   * @param budget The maximum time in milliseconds. Zero or negative values do not limit the time.
+   * @return The prime factors in ascending order, repeated according to their multiplicity.
+   * The vector is empty if number is 1.
+   * @throws ArithmeticException if number is not positive, or if the time budget is exceeded,
+   *                             or if no factor of a composite is found with the ECM parameters.
+   * @since 2026-10-19
+   */
+  static public Vector<BigInteger> factor(final BigInteger number, final long budget) throws ArithmeticException {
+    return factor(number, budget, ECM_B1, ECM_CURVES);
+  } /* IFactor.factor */
+
+  /**
+   * Prime factorization of a positive integer with a schedule of elliptic curves.
+   *
+   * @param number The positive integer.
+   * @param budget The maximum time in milliseconds. Zero or negative values do not limit the time.
+   * @param b1     The stage 1 bounds of the elliptic curve method, tried in this order.
+   * @param curves The number of curves for each bound in b1.
+   * @return The prime factors in ascending order, repeated according to their multiplicity.
+   * The vector is empty if number is 1.
+   * @throws ArithmeticException if number is not positive, if the schedule is invalid,
+   *                             if the time budget is exceeded,
+   *                             or if no factor of a composite is found with the ECM parameters.
+   * @since 2026-10-19
+   */
+  static public Vector<BigInteger> factor(final BigInteger number, final long budget, final int[] b1, final int[] curves) throws ArithmeticException {
+    if (number.signum() <= 0)
+      throw new ArithmeticException("Non-positive argument " + number);
+    if (b1.length != curves.length)
+      throw new ArithmeticException("Mismatched lengths " + b1.length + " and " + curves.length + " of the ECM schedule");
+    for (int l = 0; l < b1.length; l++)
+      if (b1[l] < 2 || curves[l] < 0)
+        throw new ArithmeticException("Invalid ECM bound " + b1[l] + " with " + curves[l] + " curves");
+    final long deadline = (budget > 0) ? System.currentTimeMillis() + budget : Long.MAX_VALUE;
+    Vector<BigInteger> f = new Vector<BigInteger>();
+    final BigInteger m = trialDivide(number, f);
+
+                /* the cofactors which are not yet known to be prime, all free of prime factors
+                * below TRIAL_LIMIT
+                */
+    Vector<BigInteger> todo = new Vector<BigInteger>();
+    if (m.compareTo(BigInteger.ONE) > 0)
+      todo.add(m);
+    final Random rnd = new Random(number.longValue());
+    final BigInteger lim2 = BigInteger.valueOf(TRIAL_LIMIT).pow(2);
+    while (!todo.isEmpty()) {
+      final BigInteger c = todo.remove(todo.size() - 1);
+      if (c.compareTo(lim2) < 0 || Prime.isBPSW(c))
+        f.add(c);
+      else {
+        final BigInteger d = split(c, rnd, deadline, b1, curves);
+        todo.add(d);
+        todo.add(c.divide(d));
+      }
+    }
+    Collections.sort(f);
+    return f;
+  } /* IFactor.factor */
+
+  /**
+   * Trial division by the primes below TRIAL_LIMIT.
+   *
+   * @param number The positive integer.
+   * @param f      The vector to which the prime factors found are appended.
+   * @return The cofactor without prime factors below TRIAL_LIMIT.
+   * @since 2026-10-19
+   */
+  static private BigInteger trialDivide(BigInteger number, Vector<BigInteger> f) {
+    final int s = number.getLowestSetBit();
+    for (int i = 0; i < s; i++)
+      f.add(BigInteger.valueOf(2));
+    number = number.shiftRight(s);
+
+    for (int i = 1; i < SMALL_PRIMES.length && number.compareTo(BigInteger.ONE) > 0; ) {
+      if (number.bitLength() < 63) {
+                                /* the remainder in long arithmetic, up to the square root */
+        long m = number.longValue();
+        for (; i < SMALL_PRIMES.length; i++) {
+          final long p = SMALL_PRIMES[i];
+          if (p * p > m)
+            break;
+          while (m % p == 0) {
+            f.add(BigInteger.valueOf(p));
+            m /= p;
+          }
+        }
+        return BigInteger.valueOf(m);
+      }
+                        /* one BigInteger remainder by a product of primes which fits into a long,
+                        * which is then tested by each prime of the product.
+                        */
+      long prod = 1;
+      int j = i;
+      while (j < SMALL_PRIMES.length && prod <= Long.MAX_VALUE / SMALL_PRIMES[j])
+        prod *= SMALL_PRIMES[j++];
+      final long r = number.mod(BigInteger.valueOf(prod)).longValue();
+      for (; i < j; i++)
+        if (r % SMALL_PRIMES[i] == 0) {
+          final BigInteger p = BigInteger.valueOf(SMALL_PRIMES[i]);
+          BigInteger[] qr = number.divideAndRemainder(p);
+          while (qr[1].signum() == 0) {
+            f.add(p);
+            number = qr[0];
+            qr = number.divideAndRemainder(p);
+          }
+        }
+    }
+    return number;
+  } /* IFactor.trialDivide */
+
+  /**
+   * A non-trivial factor of a composite number.
+   *
+   * @param c        The composite, without prime factors below TRIAL_LIMIT.
+   * @param rnd      The source of the random parameters.
+   * @param deadline The value of System.currentTimeMillis() at which the search is abandoned.
+   * @param b1       The stage 1 bounds of the elliptic curve method.
+   * @param curves   The number of curves for each bound in b1.
+   * @return A factor d with 1 &lt; d &lt; c.
+   * @since 2026-10-19
+   */
+  static private BigInteger split(final BigInteger c, final Random rnd, final long deadline, final int[] b1, final int[] curves) {
+                /* perfect powers, on which the random methods would not separate the equal factors.
+                * Exponents k with TRIAL_LIMIT^k > c need no test.
+                */
+    for (int k = 2; k <= c.bitLength() / 16; k++) {
+      final BigInteger r = BigIntegerMath.iroot(c, k);
+      if (r.pow(k).compareTo(c) == 0)
+        return r;
+    }
+
+    BigInteger d = rho(c, rnd, deadline);
+    if (d != null)
+      return d;
+
+    for (int l = 0; l < b1.length; l++) {
+      final int[] primes = Prime.sieve(b1[l]);
+      for (int cu = 0; cu < curves[l]; cu++) {
+        checkDeadline(c, deadline);
+        d = ecm(c, primes, b1[l], rnd);
+        if (d != null)
+          return d;
+      }
+    }
+    throw new ArithmeticException("No factor of " + c + " found");
+  } /* IFactor.split */
+
+  /**
+   * Pollard's rho method in Brent's variant.
+   * The differences are multiplied modulo c, and their gcd with c is taken once per
+   * block of 128 iterations.
+   *
+   * @param c        The composite.
+   * @param rnd      The source of the random starting value and polynomial.
+   * @param deadline The value of System.currentTimeMillis() at which the search is abandoned.
+   * @return A factor d with 1 &lt; d &lt; c, or null if none is found within RHO_ITERATIONS.
+   * @since 2026-10-19
+   */
+  static private BigInteger rho(final BigInteger c, final Random rnd, final long deadline) {
+    final int blk = 128;
+    long iter = 0;
+    while (iter < RHO_ITERATIONS) {
+                        /* the iteration y -> y^2+a (mod c) */
+      final BigInteger a = BigInteger.valueOf(1 + rnd.nextInt(1 << 30));
+      BigInteger y = new BigInteger(c.bitLength() - 1, rnd);
+      BigInteger x = y;
+      BigInteger ys = y;
+      BigInteger q = BigInteger.ONE;
+      BigInteger g = BigInteger.ONE;
+      for (long r = 1; g.compareTo(BigInteger.ONE) == 0 && iter < RHO_ITERATIONS; r <<= 1) {
+        x = y;
+        for (long i = 0; i < r; i++)
+          y = y.multiply(y).add(a).mod(c);
+        iter += r;
+        for (long k = 0; k < r && g.compareTo(BigInteger.ONE) == 0; k += blk) {
+          ys = y;
+          final long kmax = Math.min(blk, r - k);
+          for (long i = 0; i < kmax; i++) {
+            y = y.multiply(y).add(a).mod(c);
+            q = q.multiply(x.subtract(y)).mod(c);
+          }
+          g = q.gcd(c);
+          iter += kmax;
+        }
+        checkDeadline(c, deadline);
+      }
+                        /* the block overshot: repeat its steps one by one */
+      if (g.compareTo(c) == 0)
+        do {
+          ys = ys.multiply(ys).add(a).mod(c);
+          g = x.subtract(ys).gcd(c);
+        } while (g.compareTo(BigInteger.ONE) == 0);
+      if (g.compareTo(c) < 0 && g.compareTo(BigInteger.ONE) > 0)
+        return g;
+      if (g.compareTo(BigInteger.ONE) == 0)
+        break;
+                        /* g = c: try another polynomial */
+    }
+    return null;
+  } /* IFactor.rho */
+
+  /**
+   * One curve of Lenstra's elliptic curve method.
+   * The curve is in Montgomery's form By^2 = x^3+Ax^2+x with Suyama's parametrization,
+   * and the points are represented by the projective coordinates (x:z).
+   * Stage 2 is the standard continuation with baby steps j*Q, gcd(j,2310)=1, and giant steps
+   * 2310*k*Q up to ECM_B2_RATIO*b1.
+   *
+   * @param c      The composite.
+   * @param primes The primes up to b1.
+   * @param b1     The stage 1 bound.
+   * @param rnd    The source of the curve parameter.
+   * @return A factor d with 1 &lt; d &lt; c, or null if the curve does not find one.
+   * @since 2026-10-19
+   */
+  static private BigInteger ecm(final BigInteger c, final int[] primes, final int b1, final Random rnd) {
+    final BigInteger sigma = BigInteger.valueOf(6 + rnd.nextInt((1 << 30) - 6));
+    final BigInteger u = sigma.multiply(sigma).subtract(BigInteger.valueOf(5)).mod(c);
+    final BigInteger v = sigma.shiftLeft(2).mod(c);
+    final BigInteger u3 = u.pow(3).mod(c);
+    BigInteger[] Q = {u3, v.pow(3).mod(c)};
+
+                /* (A+2)/4 = (v-u)^3(3u+v)/(16u^3v) */
+    final BigInteger den = u3.multiply(v).shiftLeft(4).mod(c);
+    BigInteger g = den.gcd(c);
+    if (g.compareTo(BigInteger.ONE) != 0)
+      return (g.compareTo(c) < 0) ? g : null;
+    final BigInteger a24 = v.subtract(u).pow(3).multiply(u.multiply(BigInteger.valueOf(3)).add(v))
+      .multiply(den.modInverse(c)).mod(c);
+
+                /* stage 1: multiply Q by the prime powers up to b1 */
+    for (int p : primes) {
+      long q = p;
+      while (q * p <= b1)
+        q *= p;
+      Q = ladder(Q, q, a24, c);
+    }
+    g = Q[1].gcd(c);
+    if (g.compareTo(BigInteger.ONE) != 0)
+      return (g.compareTo(c) < 0) ? g : null;
+
+                /* stage 2. The x-coordinates of k*D*Q and j*Q agree modulo a prime factor
+                * if its group order divides k*D-j or k*D+j.
+                */
+    final int D = 2310;
+    final BigInteger[] Q2 = xdbl(Q, a24, c);
+    Vector<BigInteger[]> baby = new Vector<BigInteger[]>();
+    BigInteger[] prev = Q;
+    BigInteger[] cur = xadd(Q2, Q, Q, c);
+    baby.add(Q);
+    for (int j = 3; j < D / 2; j += 2) {
+      if (j % 3 != 0 && j % 5 != 0 && j % 7 != 0 && j % 11 != 0)
+        baby.add(cur);
+      final BigInteger[] nxt = xadd(cur, Q2, prev, c);
+      prev = cur;
+      cur = nxt;
+    }
+    final BigInteger[] G = ladder(Q, D, a24, c);
+    final long kmin = Math.max(1, b1 / D);
+    final long kmax = (long) ECM_B2_RATIO * b1 / D + 1;
+    BigInteger[] Gk = (kmin == 1) ? G : ladder(Q, kmin * D, a24, c);
+    BigInteger[] Gk1 = (kmin == 1) ? xdbl(G, a24, c) : ladder(Q, (kmin + 1) * D, a24, c);
+    BigInteger acc = BigInteger.ONE;
+    for (long k = kmin; k <= kmax; k++) {
+      for (BigInteger[] B : baby)
+        acc = acc.multiply(Gk[0].multiply(B[1]).subtract(B[0].multiply(Gk[1]))).mod(c);
+      final BigInteger[] nxt = xadd(Gk1, G, Gk, c);
+      Gk = Gk1;
+      Gk1 = nxt;
+    }
+    g = acc.gcd(c);
+    return (g.compareTo(BigInteger.ONE) > 0 && g.compareTo(c) < 0) ? g : null;
+  } /* IFactor.ecm */
+
+  /**
+   * Multiple of a point on a Montgomery curve.
+   *
+   * @param P   The point (x:z).
+   * @param k   The positive multiplier.
+   * @param a24 The curve parameter (A+2)/4.
+   * @param c   The modulus.
+   * @return k*P, by Montgomery's ladder.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] ladder(final BigInteger[] P, final long k, final BigInteger a24, final BigInteger c) {
+    BigInteger[] R0 = P;
+    BigInteger[] R1 = xdbl(P, a24, c);
+    for (int b = 62 - Long.numberOfLeadingZeros(k); b >= 0; b--)
+      if ((k >>> b & 1) != 0) {
+        R0 = xadd(R0, R1, P, c);
+        R1 = xdbl(R1, a24, c);
+      } else {
+        R1 = xadd(R0, R1, P, c);
+        R0 = xdbl(R0, a24, c);
+      }
+    return R0;
+  } /* IFactor.ladder */
+
+  /**
+   * Doubling of a point on a Montgomery curve.
+   *
+   * @param P   The point (x:z).
+   * @param a24 The curve parameter (A+2)/4.
+   * @param c   The modulus.
+   * @return 2*P.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] xdbl(final BigInteger[] P, final BigInteger a24, final BigInteger c) {
+    final BigInteger s = P[0].add(P[1]).pow(2).mod(c);
+    final BigInteger d = P[0].subtract(P[1]).pow(2).mod(c);
+    final BigInteger t = s.subtract(d);
+    return new BigInteger[]{s.multiply(d).mod(c), t.multiply(d.add(a24.multiply(t))).mod(c)};
+  } /* IFactor.xdbl */
+
+  /**
+   * Differential addition of points on a Montgomery curve.
+   *
+   * @param P    The point (x:z).
+   * @param Q    The other point.
+   * @param diff The difference P-Q.
+   * @param c    The modulus.
+   * @return P+Q.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] xadd(final BigInteger[] P, final BigInteger[] Q, final BigInteger[] diff, final BigInteger c) {
+    final BigInteger u = P[0].subtract(P[1]).multiply(Q[0].add(Q[1]));
+    final BigInteger v = P[0].add(P[1]).multiply(Q[0].subtract(Q[1]));
+    return new BigInteger[]{diff[1].multiply(u.add(v).pow(2).mod(c)).mod(c),
+      diff[0].multiply(u.subtract(v).pow(2).mod(c)).mod(c)};
+  } /* IFactor.xadd */
+
+  /**
+   * Abandon the factorization if the time budget is exceeded.
+   *
+   * @param c        The number being factored.
+   * @param deadline The value of System.currentTimeMillis() at which the search is abandoned.
+   * @throws ArithmeticException if the deadline has passed.
+   * @since 2026-10-19
+   */
+  static private void checkDeadline(final BigInteger c, final long deadline) throws ArithmeticException {
+    if (System.currentTimeMillis() > deadline)
+      throw new ArithmeticException("Time budget exceeded while factoring " + c);
+  } /* IFactor.checkDeadline */
+
   /**
    * Test program.
    * It takes a single argument n and prints the integer factorization.<br>
@@ -768,6 +1168,19 @@ public class IFactor implements Cloneable, Comparable<IFactor> {
    */
   public static void main(String[] args) {
     BigInteger n = new BigInteger(args[0]);
-    System.out.println(new IFactor(n));
+                /* the static factor() also prints prime factors beyond the Integer range
+                */
+    final Vector<BigInteger> f = factor(n, 0);
+    String result = n.toString() + ":";
+    if (f.isEmpty())
+      result += "1";
+    for (int i = 0; i < f.size(); ) {
+      final BigInteger p = f.elementAt(i);
+      int ex = 0;
+      for (; i < f.size() && f.elementAt(i).compareTo(p) == 0; i++)
+        ex++;
+      result += p.toString() + ((ex > 1) ? "^" + ex : "") + ((i < f.size()) ? "*" : "");
+    }
+    System.out.println(result);
   } /* IFactor.main */
 } /* IFactor */
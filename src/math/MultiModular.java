@@ -0,0 +1,561 @@
+package math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Vector;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Multi-modular linear algebra of integer matrices.
+ * The matrix is reduced modulo primes just below 2^31, each image is eliminated in long
+ * arithmetic, and the integer result is reconstructed by Chinese remaindering. The number of primes
+ * is set by Hadamard's bound on the minors of the matrix, so the results are exact.
+ * The images modulo different primes are computed as tasks of the common ForkJoin pool.
+ *
+ * @since 2026-10-19
+ */
+public class MultiModular {
+  /**
+   * The primes below 2^31, in descending order.
+   * All of them are larger than 2^30, so each adds at least 30 bits to the modulus.
+   */
+  static Vector<Long> primes = new Vector<Long>();
+
+  /**
+   * Determinant of an integer square matrix.
+   *
+   * @param A The square matrix.
+   *          If column and row dimensions are unequal, an ArithmeticException is thrown.
+   * @return The determinant.
+   * @since 2026-10-19
+   */
+  static public BigInteger det(final BigInteger[][] A) throws ArithmeticException {
+    final int rL = A.length;
+    if (rL == 0)
+      throw new ArithmeticException("zero row count in matrix");
+    final int cL = A[0].length;
+    if (cL != rL)
+      throw new ArithmeticException("Non-square matrix dim " + rL + " by " + cL);
+
+                /* Hadamard: |det| <= prod_rows |row|_2. One bit more for the sign.
+                */
+    final long[] ps = primes(0, primeCount(rowBits(A, rL) + 1));
+    final long[][] img = images(ps, p -> new long[]{detModP(A, p)});
+    return crt(ps, img)[0];
+  } /* MultiModular.det */
+
+  /**
+   * Rank of an integer matrix.
+   *
+   * @param A The matrix.
+   * @return The rank of A over the rationals.
+   * @since 2026-10-19
+   */
+  static public int rank(final BigInteger[][] A) {
+    return (A.length == 0) ? 0 : pivots(A)[0].length;
+  } /* MultiModular.rank */
+
+  /**
+   * Basis of the null space of an integer matrix.
+   *
+   * @param A The matrix with m rows and n columns.
+   * @return The basis vectors x of A*x=0, each with n primitive integer components.
+   * There is one vector for each column which is not a pivot column of the row echelon form,
+   * and that component of the vector is positive. The vector is empty if A has full column rank.
+   * @since 2026-10-19
+   */
+  static public Vector<BigInteger[]> nullspace(final BigInteger[][] A) {
+    Vector<BigInteger[]> ker = new Vector<BigInteger[]>();
+    if (A.length == 0)
+      return ker;
+    final int cL = A[0].length;
+    final int[][] pq = pivots(A);
+    final int[] P = pq[0];
+    final int[] Q = pq[1];
+    if (Q.length == cL)
+      return ker;
+
+                /* the free columns
+                */
+    final int[] F = new int[cL - Q.length];
+    for (int c = 0, q = 0, f = 0; c < cL; c++)
+      if (q < Q.length && Q[q] == c)
+        q++;
+      else
+        F[f++] = c;
+
+                /* A_P has the full rank, so its kernel is the kernel of A. With D = det(A_PQ),
+                * the kernel vectors scaled by D are minors of A_P by Cramer's rule.
+                */
+    final long bits = rowBits(A, P) + 1;
+    final int need = primeCount(bits);
+    Vector<long[]> img = new Vector<long[]>();
+    Vector<Long> used = new Vector<Long>();
+    for (int next = 0; used.size() < need; ) {
+      final long[] ps = primes(next, need - used.size());
+      next += ps.length;
+      final long[][] batch = images(ps, p -> kernelModP(A, P, Q, F, p));
+      for (int i = 0; i < ps.length; i++)
+                                /* skip the primes that divide D */
+        if (batch[i] != null) {
+          used.add(ps[i]);
+          img.add(batch[i]);
+        }
+    }
+    long[] ps = new long[used.size()];
+    for (int i = 0; i < ps.length; i++)
+      ps[i] = used.elementAt(i);
+    final BigInteger[] v = crt(ps, img.toArray(new long[0][]));
+
+                /* divide each vector through the gcd of its components
+                */
+    for (int f = 0; f < F.length; f++) {
+      BigInteger[] x = new BigInteger[cL];
+      System.arraycopy(v, f * cL, x, 0, cL);
+      BigInteger g = BigInteger.ZERO;
+      for (BigInteger xc : x)
+        g = g.gcd(xc);
+      if (x[F[f]].signum() < 0)
+        g = g.negate();
+      for (int c = 0; c < cL; c++)
+        x[c] = x[c].divide(g);
+      ker.add(x);
+    }
+    return ker;
+  } /* MultiModular.nullspace */
+
+  /**
+   * Pivot rows and columns of an integer matrix.
+   * The rank modulo p is never larger than the rank r over the rationals. If the rank is smaller
+   * modulo each prime of a set, all minors of size r are multiples of the product of these primes.
+   * The maximum rank obtained modulo the primes is therefore the true rank once the product exceeds
+   * the Hadamard bound on the minors.
+   *
+   * @param A The matrix, at least one row.
+   * @return The indices of the independent rows in [0] and of the pivot columns in [1], both in
+   * increasing order. The submatrix of A of these rows and columns is not singular.
+   * @since 2026-10-19
+   */
+  static private int[][] pivots(final BigInteger[][] A) {
+    final int rL = A.length;
+    final int cL = A[0].length;
+    final int full = Math.min(rL, cL);
+    final int need = primeCount(minorBits(A));
+    long[] best = new long[]{0};
+    for (int next = 0; next < need; ) {
+                        /* one prime first, which settles the common case of full rank */
+      final long[] ps = primes(next, (next == 0) ? 1 : need - next);
+      next += ps.length;
+      final long[][] img = images(ps, p -> rankModP(A, p));
+      for (long[] r : img)
+        if (r[0] > best[0])
+          best = r;
+      if (best[0] == full)
+        break;
+    }
+
+    final int r = (int) best[0];
+    int[][] pq = new int[2][r];
+    for (int i = 0; i < r; i++) {
+      pq[0][i] = (int) best[1 + i];
+      pq[1][i] = (int) best[1 + r + i];
+    }
+    Arrays.sort(pq[0]);
+    return pq;
+  } /* MultiModular.pivots */
+
+  /**
+   * Determinant modulo a prime.
+   *
+   * @param A The square matrix.
+   * @param p The prime modulus, smaller than 2^31.
+   * @return det(A) mod p in the range 0 to p-1.
+   * @since 2026-10-19
+   */
+  static private long detModP(final BigInteger[][] A, final long p) {
+    final int n = A.length;
+    long[][] a = reduce(A, p);
+    long d = 1;
+    for (int k = 0; k < n; k++) {
+      int r = k;
+      while (r < n && a[r][k] == 0)
+        r++;
+      if (r >= n)
+        return 0;
+      if (r != k) {
+        long[] tmp = a[k];
+        a[k] = a[r];
+        a[r] = tmp;
+        d = p - d;
+      }
+      d = (d * a[k][k]) % p;
+      final long inv = inverse(a[k][k], p);
+      for (r = k + 1; r < n; r++)
+        if (a[r][k] != 0) {
+          final long f = p - (a[r][k] * inv) % p;
+          for (int c = k + 1; c < n; c++)
+            a[r][c] = (a[r][c] + f * a[k][c]) % p;
+        }
+    }
+    return d;
+  } /* MultiModular.detModP */
+
+  /**
+   * Rank and pivots modulo a prime.
+   *
+   * @param A The matrix.
+   * @param p The prime modulus, smaller than 2^31.
+   * @return The rank r in [0], the original indices of the r pivot rows in [1] to [r],
+   * and the r pivot columns in [r+1] to [2r].
+   * @since 2026-10-19
+   */
+  static private long[] rankModP(final BigInteger[][] A, final long p) {
+    final int rL = A.length;
+    final int cL = A[0].length;
+    long[][] a = reduce(A, p);
+    int[] row = new int[rL];
+    for (int r = 0; r < rL; r++)
+      row[r] = r;
+    int[] col = new int[Math.min(rL, cL)];
+
+    int k = 0;
+    for (int c = 0; c < cL && k < rL; c++) {
+      int r = k;
+      while (r < rL && a[r][c] == 0)
+        r++;
+      if (r >= rL)
+        continue;
+      long[] tmp = a[k];
+      a[k] = a[r];
+      a[r] = tmp;
+      int itmp = row[k];
+      row[k] = row[r];
+      row[r] = itmp;
+      final long inv = inverse(a[k][c], p);
+      for (r = k + 1; r < rL; r++)
+        if (a[r][c] != 0) {
+          final long f = p - (a[r][c] * inv) % p;
+          for (int cc = c + 1; cc < cL; cc++)
+            a[r][cc] = (a[r][cc] + f * a[k][cc]) % p;
+        }
+      col[k++] = c;
+    }
+    long[] res = new long[1 + 2 * k];
+    res[0] = k;
+    for (int i = 0; i < k; i++) {
+      res[1 + i] = row[i];
+      res[1 + k + i] = col[i];
+    }
+    return res;
+  } /* MultiModular.rankModP */
+
+  /**
+   * Null space modulo a prime.
+   * Gauss-Jordan elimination of the pivot columns Q in the rows P of A.
+   *
+   * @param A The matrix.
+   * @param P The row indices with a non-singular submatrix A_PQ.
+   * @param Q The pivot column indices.
+   * @param F The indices of the other columns.
+   * @param p The prime modulus, smaller than 2^31.
+   * @return null if p divides D = det(A_PQ), else for each free column f the n components of
+   * the kernel vector which is D at f and zero at the other free columns, concatenated.
+   * @since 2026-10-19
+   */
+  static private long[] kernelModP(final BigInteger[][] A, final int[] P, final int[] Q, final int[] F, final long p) {
+    final int r = P.length;
+    final int cL = A[0].length;
+    BigInteger[][] AP = new BigInteger[r][];
+    for (int i = 0; i < r; i++)
+      AP[i] = A[P[i]];
+    long[][] a = reduce(AP, p);
+
+    long d = 1;
+    for (int k = 0; k < r; k++) {
+      final int c = Q[k];
+      int i = k;
+      while (i < r && a[i][c] == 0)
+        i++;
+      if (i >= r)
+        return null;
+      if (i != k) {
+        long[] tmp = a[k];
+        a[k] = a[i];
+        a[i] = tmp;
+        d = p - d;
+      }
+      d = (d * a[k][c]) % p;
+      final long inv = inverse(a[k][c], p);
+      for (int cc = 0; cc < cL; cc++)
+        a[k][cc] = (a[k][cc] * inv) % p;
+      for (i = 0; i < r; i++)
+        if (i != k && a[i][c] != 0) {
+          final long f = p - a[i][c];
+          for (int cc = 0; cc < cL; cc++)
+            a[i][cc] = (a[i][cc] + f * a[k][cc]) % p;
+        }
+    }
+
+                /* x_Q = -A_PQ^(-1) A_Pf, scaled by D
+                */
+    long[] x = new long[F.length * cL];
+    for (int f = 0; f < F.length; f++) {
+      x[f * cL + F[f]] = d;
+      for (int k = 0; k < r; k++)
+        x[f * cL + Q[k]] = (d * (p - a[k][F[f]])) % p;
+    }
+    return x;
+  } /* MultiModular.kernelModP */
+
+  /**
+   * Chinese remaindering of vectors of residues.
+   *
+   * @param ps  The distinct primes.
+   * @param img The residues modulo ps[i] in img[i], all of the same length.
+   * @return The vector of the residues modulo the product of the primes, in the symmetric range.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] crt(final long[] ps, final long[][] img) {
+    BigInteger[] res = new BigInteger[img[0].length];
+    Arrays.fill(res, BigInteger.ZERO);
+    BigInteger modul = BigInteger.ONE;
+    for (int i = 0; i < ps.length; i++) {
+      final long p = ps[i];
+                        /* Garner step: res + modul*t = img (mod p)
+                        */
+      final long minv = inverse(mod(modul, p), p);
+      for (int j = 0; j < res.length; j++) {
+        final long t = (((img[i][j] - mod(res[j], p) + p) % p) * minv) % p;
+        if (t != 0)
+          res[j] = res[j].add(modul.multiply(BigInteger.valueOf(t)));
+      }
+      modul = modul.multiply(BigInteger.valueOf(p));
+    }
+                /* symmetric residue
+                */
+    final BigInteger half = modul.shiftRight(1);
+    for (int j = 0; j < res.length; j++)
+      if (res[j].compareTo(half) > 0)
+        res[j] = res[j].subtract(modul);
+    return res;
+  } /* MultiModular.crt */
+
+  /**
+   * Images modulo a list of primes, computed as tasks of the common ForkJoin pool.
+   * The pool is shared with the other parallel parts of the package, so nested calls do not
+   * create additional threads.
+   *
+   * @param ps The primes.
+   * @param f  The function which computes the image modulo its argument.
+   * @return The value of f for ps[i] in [i].
+   * @throws CancellationException if the calling thread is interrupted.
+   * @since 2026-10-19
+   */
+  static private long[][] images(final long[] ps, final LongFunction<long[]> f) {
+    long[][] img = new long[ps.length][];
+    if (ps.length == 1) {
+      img[0] = f.apply(ps[0]);
+      return img;
+    }
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+    Vector<Future<long[]>> res = new Vector<Future<long[]>>();
+    try {
+      for (final long p : ps)
+        res.add(pool.submit(() -> f.apply(p)));
+      for (int i = 0; i < ps.length; i++)
+        img[i] = res.elementAt(i).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Modular images interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException)
+        throw (RuntimeException) e.getCause();
+      throw new ArithmeticException(e.getCause().toString());
+    } finally {
+                        /* after a failure the remaining images are not needed */
+      for (Future<long[]> r : res)
+        r.cancel(true);
+    }
+    return img;
+  } /* MultiModular.images */
+
+  /**
+   * A range of the primes below 2^31.
+   *
+   * @param from The index of the first prime, 0 for the largest.
+   * @param n    The number of primes.
+   * @return The primes, in descending order.
+   * @since 2026-10-19
+   */
+  static private long[] primes(final int from, final int n) {
+    synchronized (primes) {
+      if (primes.size() < from + n) {
+        long p = primes.isEmpty() ? (1L << 31) : primes.lastElement();
+        while (primes.size() < from + n) {
+          p -= (p == (1L << 31)) ? 1 : 2;
+          if (Prime.isPrime(p))
+            primes.add(p);
+        }
+      }
+      long[] ps = new long[n];
+      for (int i = 0; i < n; i++)
+        ps[i] = primes.elementAt(from + i);
+      return ps;
+    }
+  } /* MultiModular.primes */
+
+  /**
+   * The number of primes from the list whose product exceeds 2^bits.
+   *
+   * @param bits The number of bits of the modulus.
+   * @return The number of primes.
+   * @since 2026-10-19
+   */
+  static private int primeCount(final long bits) {
+    return (int) (bits / 30 + 1);
+  } /* MultiModular.primeCount */
+
+  /**
+   * The number of bits of Hadamard's bound of a set of rows.
+   *
+   * @param A    The matrix.
+   * @param rows The number of the leading rows.
+   * @return An upper bound on log_2 of the product over the Euclidean norms of the rows.
+   * @since 2026-10-19
+   */
+  static private long rowBits(final BigInteger[][] A, final int rows) {
+    long bits = 0;
+    for (int r = 0; r < rows; r++)
+      bits += normBits(A[r]);
+    return bits;
+  } /* MultiModular.rowBits */
+
+  /**
+   * The number of bits of Hadamard's bound of a set of rows.
+   *
+   * @param A    The matrix.
+   * @param rows The row indices.
+   * @return An upper bound on log_2 of the product over the Euclidean norms of the rows.
+   * @since 2026-10-19
+   */
+  static private long rowBits(final BigInteger[][] A, final int[] rows) {
+    long bits = 0;
+    for (int r : rows)
+      bits += normBits(A[r]);
+    return bits;
+  } /* MultiModular.rowBits */
+
+  /**
+   * The number of bits of a bound on all minors of a matrix.
+   * A minor of size k is bounded by the product of the k largest row norms, and likewise
+   * of the k largest column norms. Zero rows and columns do not contribute.
+   *
+   * @param A The matrix.
+   * @return An upper bound on log_2 of the absolute value of any minor of A.
+   * @since 2026-10-19
+   */
+  static private long minorBits(final BigInteger[][] A) {
+    final int rL = A.length;
+    final int cL = A[0].length;
+    final int k = Math.min(rL, cL);
+    long[] rb = new long[rL];
+    for (int r = 0; r < rL; r++)
+      rb[r] = normBits(A[r]);
+    long[] cb = new long[cL];
+    BigInteger[] column = new BigInteger[rL];
+    for (int c = 0; c < cL; c++) {
+      for (int r = 0; r < rL; r++)
+        column[r] = A[r][c];
+      cb[c] = normBits(column);
+    }
+    Arrays.sort(rb);
+    Arrays.sort(cb);
+    long rbits = 0;
+    for (int i = 0; i < k; i++)
+      rbits += rb[rL - 1 - i];
+    long cbits = 0;
+    for (int i = 0; i < k; i++)
+      cbits += cb[cL - 1 - i];
+    return Math.min(rbits, cbits);
+  } /* MultiModular.minorBits */
+
+  /**
+   * The number of bits of the Euclidean norm of a vector.
+   *
+   * @param v The vector.
+   * @return An upper bound on log_2 |v|, zero if v is zero.
+   * @since 2026-10-19
+   */
+  static private long normBits(final BigInteger[] v) {
+    BigInteger n2 = BigInteger.ZERO;
+    for (BigInteger vc : v)
+      n2 = n2.add(vc.multiply(vc));
+                /* log2 |v| = log2(n2)/2 <= bitLength(n2)/2 */
+    return (n2.bitLength() + 1) / 2;
+  } /* MultiModular.normBits */
+
+  /**
+   * Reduction of a matrix modulo a prime.
+   *
+   * @param A The matrix.
+   * @param p The prime modulus.
+   * @return The matrix of the residues in the range 0 to p-1.
+   * @since 2026-10-19
+   */
+  static private long[][] reduce(final BigInteger[][] A, final long p) {
+    long[][] a = new long[A.length][];
+    for (int r = 0; r < A.length; r++) {
+      a[r] = new long[A[r].length];
+      for (int c = 0; c < A[r].length; c++)
+        a[r][c] = mod(A[r][c], p);
+    }
+    return a;
+  } /* MultiModular.reduce */
+
+  /**
+   * The residue of an integer modulo a prime.
+   *
+   * @param x The integer.
+   * @param p The modulus.
+   * @return x mod p in the range 0 to p-1.
+   * @since 2026-10-19
+   */
+  static private long mod(final BigInteger x, final long p) {
+    if (x.bitLength() < 63) {
+      final long r = x.longValue() % p;
+      return (r < 0) ? r + p : r;
+    }
+    return x.mod(BigInteger.valueOf(p)).longValue();
+  } /* MultiModular.mod */
+
+  /**
+   * The inverse modulo a prime.
+   *
+   * @param a The residue, not divisible by p.
+   * @param p The prime modulus.
+   * @return The x in the range 1 to p-1 with a*x = 1 (mod p).
+   * @since 2026-10-19
+   */
+  static private long inverse(final long a, final long p) {
+                /* extended Euclid, keeping only the coefficient of a
+                */
+    long r0 = p, r1 = a % p;
+    long s0 = 0, s1 = 1;
+    while (r1 != 0) {
+      final long q = r0 / r1;
+      long t = r0 - q * r1;
+      r0 = r1;
+      r1 = t;
+      t = s0 - q * s1;
+      s0 = s1;
+      s1 = t;
+    }
+    if (r0 != 1)
+      throw new ArithmeticException("No inverse of " + a + " modulo " + p);
+    return (s0 < 0) ? s0 + p : s0;
+  } /* MultiModular.inverse */
+} /* MultiModular */
@@ -5,9 +5,15 @@
 package math;
 
 import java.util.Iterator;
+import java.util.Vector;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /*!************************************************
 * @brief The class Partitions constructs the partitions of an integer into positive integers.
+* The iterator returns a new array per partition; the static visit() methods pass a reused
+* buffer in multiplicity form to a callback instead.
 * @author Richard J. Mathar
 * @since 2014-06-19
 */
@@ -283,6 +289,234 @@ public class Partitions implements Iterator {
     }
   } /* current */
 
+  /**
+   * Callback of the enumerations by visit().
+   * The parts are handed over in multiplicity form: part[0] repeated mult[0] times, followed by
+   * part[1] repeated mult[1] times and so on. For partitions the part[] are distinct and decreasing;
+   * for compositions adjacent part[] are distinct. The arrays are owned by the enumerator
+   * and overwritten after the call returns.
+   *
+   * @since 2026-10-19
+   */
+  public interface Visitor {
+    /**
+     * @param part The parts, valid in part[0] to part[d-1].
+     * @param mult The multiplicities of the parts, valid in mult[0] to mult[d-1].
+     * @param d    The number of entries in part[] and mult[].
+     * @return false if the enumeration is to be stopped, true if it is to continue.
+     */
+    boolean visit(final int[] part, final int[] mult, final int d);
+  } /* Visitor */
+
+  /**
+   * Recursive enumeration on a single pair of parts and multiplicities buffers.
+   *
+   * @since 2026-10-19
+   */
+  static private class Enumerator {
+    final int[] part;
+    final int[] mult;
+    final Visitor v;
+    final int maxPart;
+
+    /**
+     * Flag set by the first visitor that stops. Shared by all tasks of a parallel enumeration.
+     */
+    final AtomicBoolean stop;
+
+    /**
+     * The number of partitions or compositions visited.
+     */
+    long count;
+
+    Enumerator(final int n, final int maxPart, final Visitor v, final AtomicBoolean stop) {
+                        /* a composition has at most n runs, a partition less than sqrt(2n)+1 distinct parts */
+      part = new int[n + 1];
+      mult = new int[n + 1];
+      this.maxPart = maxPart;
+      this.v = v;
+      this.stop = stop;
+      count = 0;
+    }
+
+    /**
+     * @return false if the visitor stopped the enumeration.
+     */
+    boolean emit(final int d) {
+      count++;
+      if (v != null && !v.visit(part, mult, d)) {
+        stop.set(true);
+        return false;
+      }
+      return !stop.get();
+    } /* emit */
+
+    /**
+     * Partitions of rem into parts not larger than maxP, appended to the d entries set.
+     * Each call reaches at least one partition, because the part 1 is always admitted.
+     *
+     * @return false if the visitor stopped the enumeration.
+     */
+    boolean partitions(final int rem, final int maxP, final int d) {
+      if (rem == 0)
+        return emit(d);
+      for (int p = Math.min(rem, maxP); p > 1; p--) {
+        part[d] = p;
+        for (int m = rem / p; m >= 1; m--) {
+          mult[d] = m;
+          if (!partitions(rem - m * p, p - 1, d + 1))
+            return false;
+        }
+      }
+      part[d] = 1;
+      mult[d] = rem;
+      return emit(d + 1);
+    } /* partitions */
+
+    /**
+     * Compositions of rem, appended to the d runs set.
+     *
+     * @return false if the visitor stopped the enumeration.
+     */
+    boolean compositions(final int rem, final int d) {
+      if (rem == 0)
+        return emit(d);
+      for (int p = 1; p <= Math.min(rem, maxPart); p++) {
+        final boolean cont;
+        if (d > 0 && part[d - 1] == p) {
+          mult[d - 1]++;
+          cont = compositions(rem - p, d);
+          mult[d - 1]--;
+        } else {
+          part[d] = p;
+          mult[d] = 1;
+          cont = compositions(rem - p, d + 1);
+        }
+        if (!cont)
+          return false;
+      }
+      return true;
+    } /* compositions */
+  } /* Enumerator */
+
+  /**
+   * Enumeration of the partitions with a fixed largest part and multiplicity as a ForkJoin task.
+   *
+   * @since 2026-10-19
+   */
+  static private class PartitionsTask extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    final int n;
+    final int largest;
+    final int m;
+    final Visitor v;
+    final AtomicBoolean stop;
+
+    PartitionsTask(final int n, final int largest, final int m, final Visitor v, final AtomicBoolean stop) {
+      this.n = n;
+      this.largest = largest;
+      this.m = m;
+      this.v = v;
+      this.stop = stop;
+    }
+
+    @Override
+    protected Long compute() {
+      if (stop.get())
+        return 0L;
+      Enumerator e = new Enumerator(n, largest, v, stop);
+      e.part[0] = largest;
+      e.mult[0] = m;
+      e.partitions(n - m * largest, largest - 1, 1);
+      return e.count;
+    }
+  } /* PartitionsTask */
+
+  /**
+   * Enumerate the partitions or compositions of n without allocation per item.
+   * Partitions are visited with the largest part first in reverse lexicographic order,
+   * compositions in lexicographic order.
+   *
+   * @param n           The integer to be decomposed.
+   * @param maxPart     The upper bound of any part, at least 1.
+   * @param doComposite If true visit compositions, else partitions of n.
+   * @param v           The callback called once per partition or composition. If null, the items are only counted.
+   * @return The number of partitions or compositions visited, including the one on which v stopped.
+   * @since 2026-10-19
+   */
+  static public long visit(final int n, final int maxPart, final boolean doComposite, final Visitor v) {
+                /* zero has one partition without parts */
+    if (n < 0 || (n > 0 && maxPart < 1))
+      return 0;
+    Enumerator e = new Enumerator(n, maxPart, v, new AtomicBoolean(false));
+    if (doComposite)
+      e.compositions(n, 0);
+    else
+      e.partitions(n, maxPart, 0);
+    return e.count;
+  } /* visit */
+
+  /**
+   * Enumerate the partitions of n on ForkJoin workers.
+   * The enumeration is split into one task per largest part and multiplicity of the largest part.
+   * Each task owns its buffers, and the items of different tasks are visited concurrently and
+   * in no particular order.
+   *
+   * @param n       The integer to be decomposed.
+   * @param maxPart The upper bound of any part.
+   * @param v       The callback, which must be thread-safe. If null, the items are only counted.
+   *                If it returns false, all tasks stop after their current item.
+   * @return The number of partitions visited.
+   * @since 2026-10-19
+   */
+  static public long visitParallel(final int n, final int maxPart, final Visitor v) {
+    if (n <= 0 || maxPart < 1)
+      return visit(n, maxPart, false, v);
+    final AtomicBoolean stop = new AtomicBoolean(false);
+    Vector<PartitionsTask> tasks = new Vector<PartitionsTask>();
+    for (int largest = Math.min(n, maxPart); largest >= 1; largest--)
+      for (int m = n / largest; m >= 1; m--)
+        if (largest > 1 || m == n)
+          tasks.add(new PartitionsTask(n, largest, m, v, stop));
+    ForkJoinTask.invokeAll(tasks);
+    long count = 0;
+    for (PartitionsTask t : tasks)
+      count += t.join();
+    return count;
+  } /* visitParallel */
+
+  /**
+   * Count the partitions or compositions of n.
+   * This uses the recurrences of the generating functions, O(n*maxPart) additions, instead
+   * of an enumeration.
+   *
+   * @param n           The integer to be decomposed.
+   * @param maxPart     The upper bound of any part.
+   * @param doComposite If true count compositions, else partitions of n.
+   * @return The number of partitions or compositions of n.
+   * @throws ArithmeticException if the number does not fit into a long.
+   * @since 2026-10-19
+   */
+  static public long count(final int n, final int maxPart, final boolean doComposite) {
+    if (n < 0)
+      return 0;
+    long[] c = new long[n + 1];
+    c[0] = 1;
+    if (doComposite) {
+                        /* c(i) = c(i-1)+c(i-2)+...+c(i-maxPart) */
+      for (int i = 1; i <= n; i++)
+        for (int p = 1; p <= Math.min(i, maxPart); p++)
+          c[i] = Math.addExact(c[i], c[i - p]);
+    } else {
+                        /* multiply the generating function by 1/(1-x^p), p=1,2,..,maxPart */
+      for (int p = 1; p <= Math.min(n, maxPart); p++)
+        for (int i = p; i <= n; i++)
+          c[i] = Math.addExact(c[i], c[i - p]);
+    }
+    return c[n];
+  } /* count */
+
   /**
    * Print the partitions of an integer.
    * The integer is specified by command line argument.
@@ -1,10 +1,15 @@
 package math;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.Vector;
 
 /**
  * Number of partitions.
+ * The table of p(n) is filled with Euler's pentagonal number recurrence; isolated large arguments
+ * are evaluated with the convergent series of Hardy, Ramanujan and Rademacher.
  *
  * @author Richard J. Mathar
  * @since 2008-10-15
@@ -20,21 +25,36 @@ public class PartitionsP {
    */
   static protected BigInteger nMax = new BigInteger("-1");
 
+  /**
+   * The generalized pentagonal numbers k(3k-1)/2, k=1,-1,2,-2,3,...
+   */
+  static private int[] pent = new int[0];
+
+  /**
+   * The smallest argument for which at() computes values beyond the table
+   * with rademacher() instead of extending the table.
+   *
+   * @since 2026-10-19
+   */
+  static private final int RADEMACHER_THRESHOLD = 10000;
+
   /**
    * Default constructor initializing a list of partitions up to 7.
    *
    * @author Richard J. Mathar
    */
   public PartitionsP() {
-    if (a.size() == 0) {
-      a.add(new BigInteger("" + 1));
-      a.add(new BigInteger("" + 1));
-      a.add(new BigInteger("" + 2));
-      a.add(new BigInteger("" + 3));
-      a.add(new BigInteger("" + 5));
-      a.add(new BigInteger("" + 7));
+    synchronized (a) {
+      if (a.size() == 0) {
+        a.add(new BigInteger("" + 1));
+        a.add(new BigInteger("" + 1));
+        a.add(new BigInteger("" + 2));
+        a.add(new BigInteger("" + 3));
+        a.add(new BigInteger("" + 5));
+        a.add(new BigInteger("" + 7));
+      }
+      nMax = new BigInteger("" + (a.size() - 1));
     }
-    nMax = new BigInteger("" + (a.size() - 1));
   } /* ctor */
 
   /**
@@ -45,34 +65,183 @@ public class PartitionsP {
    * @author Richard J. Mathar
    */
   public BigInteger at(int i) {
-                /* If the current list is too small, increase in intervals
-                * of 3 until the list has at least i elements.
-                */
-    while (i > nMax.intValue()) {
-      growto(nMax.add(new BigInteger("" + 3)));
-    }
+    if (i < a.size())
+      return (a.elementAt(i));
+    else if (i >= RADEMACHER_THRESHOLD)
+      return rademacher(i);
+    growto(i);
     return (a.elementAt(i));
   } /* at */
 
   /**
    * extend the list of known partitions up to n
+   * p(m) = sum_k (-1)^(k+1) [p(m-k(3k-1)/2)+p(m-k(3k+1)/2)], which are O(sqrt(m)) additions.
    *
    * @param n the maximum integer hashed after the call.
    * @author Richard J. Mathar
    */
-  private void growto(BigInteger n) {
-    while (a.size() <= n.intValue()) {
-      BigInteger per = new BigInteger("0");
-      BigInteger cursiz = new BigInteger("" + a.size());
-      for (int k = 0; k < a.size(); k++) {
-        BigInteger tmp = a.elementAt(k).multiply(BigIntegerMath.sigma(a.size() - k));
-        per = per.add(tmp);
+  private void growto(int n) {
+                /* The list is shared by all threads; the lock keeps the entries in order.
+                */
+    synchronized (a) {
+      if (pent.length == 0 || pent[pent.length - 1] <= n) {
+        Vector<Integer> g = new Vector<Integer>();
+        for (int k = 1; ; k++) {
+          final long g1 = (long) k * (3 * k - 1) / 2;
+          if (g1 > n)
+            break;
+          g.add((int) g1);
+          g.add((int) (g1 + k));
+        }
+        pent = new int[g.size()];
+        for (int j = 0; j < pent.length; j++)
+          pent[j] = g.elementAt(j);
+      }
+      while (a.size() <= n) {
+        final int m = a.size();
+        BigInteger per = BigInteger.ZERO;
+        for (int j = 0; j < pent.length && pent[j] <= m; j++) {
+                                        /* signs + + - - + + ... */
+          if ((j & 2) == 0)
+            per = per.add(a.elementAt(m - pent[j]));
+          else
+            per = per.subtract(a.elementAt(m - pent[j]));
+        }
+        a.add(per);
       }
-      a.add(per.divide(cursiz));
+      nMax = new BigInteger("" + (a.size() - 1));
     }
-    nMax = new BigInteger("" + (a.size() - 1));
   } /* growto */
 
+  /**
+   * The number of partitions by the Hardy-Ramanujan-Rademacher series.
+   * The series is truncated where Lehmer's bound on the remainder drops below 1/4. The terms with
+   * more than 10 digits are summed in BigDecimal arithmetic with a precision adapted to their size,
+   * the others in double arithmetic, and the sum is rounded to the nearest integer.
+   *
+   * @param n the non-negative argument.
+   * @return p(n).
+   * @since 2026-10-19
+   */
+  static public BigInteger rademacher(final int n) {
+    if (n < 2)
+      return (n < 0) ? BigInteger.ZERO : BigInteger.ONE;
+
+    final double cDbl = Math.PI * Math.sqrt(2.0 / 3.0);
+    final double lamDbl = Math.sqrt(n - 1.0 / 24.0);
+    int N = 1;
+    while (remainderBound(n, N) > 0.25)
+      N++;
+
+                /* decimal digits of the absolute accuracy of each term
+                */
+    final int guard = 3 + (int) Math.log10(N);
+    final int prec1 = prec(cDbl * lamDbl, guard);
+
+    final MathContext mc1 = new MathContext(prec1);
+    final BigDecimal pi = BigDecimalMath.pi(mc1);
+    final BigDecimal sqrt6 = BigDecimalMath.sqrt(new BigDecimal(6), mc1);
+    final BigDecimal lam = BigDecimalMath.sqrt(new BigDecimal(24L * n - 1).divide(new BigDecimal(24), mc1), mc1);
+    final BigDecimal c = pi.multiply(sqrt6, mc1).divide(new BigDecimal(3), mc1);
+
+    BigDecimal sum = BigDecimal.ZERO;
+    double sumDbl = 0.0;
+    for (int k = 1; k <= N; k++) {
+                        /* Selberg's form of A_k(n) = sqrt(k/3) * sum over l of (-1)^l cos((6l+1)pi/(6k))
+                        * where (3l^2+l)/2 = -n (mod k).
+                        */
+      Vector<Integer> ls = new Vector<Integer>();
+      for (int l = 0; l < 2 * k; l++)
+        if (((3L * l * l + l) / 2 + n) % k == 0)
+          ls.add(l);
+      if (ls.isEmpty())
+        continue;
+
+      final double muDbl = cDbl * lamDbl / k;
+      if (muDbl / Math.log(10.0) < 10) {
+        double s = 0.0;
+        for (int l : ls)
+          s += ((l & 1) == 0 ? 1 : -1) * Math.cos((6 * l + 1) * Math.PI / (6 * k));
+        sumDbl += s * (cDbl * Math.cosh(muDbl) - k * Math.sinh(muDbl) / lamDbl)
+          / (Math.PI * Math.sqrt(6.0) * 2.0 * lamDbl * lamDbl);
+      } else {
+        final MathContext mc = new MathContext(prec(muDbl, guard));
+        final BigDecimal pik = pi.round(mc);
+        final BigDecimal lamk = lam.round(mc);
+        final BigDecimal mu = c.round(mc).multiply(lamk, mc).divide(new BigDecimal(k), mc);
+        final BigDecimal e = BigDecimalMath.exp(mu);
+        final BigDecimal einv = BigDecimal.ONE.divide(e, mc);
+        final BigDecimal cosh = e.add(einv).divide(new BigDecimal(2), mc);
+        final BigDecimal sinh = e.subtract(einv).divide(new BigDecimal(2), mc);
+        BigDecimal s = BigDecimal.ZERO;
+        for (int l : ls) {
+          final BigDecimal cs = cos(pik.multiply(new BigDecimal(6 * l + 1), mc).divide(new BigDecimal(6 * k), mc), mc);
+          s = ((l & 1) == 0) ? s.add(cs) : s.subtract(cs);
+        }
+                                /* A_k(n) sqrt(k)/(pi sqrt 2) d/dn sinh(mu)/lambda */
+        BigDecimal t = c.round(mc).multiply(cosh, mc).subtract(sinh.multiply(new BigDecimal(k), mc).divide(lamk, mc));
+        t = t.multiply(s, mc).divide(pik.multiply(sqrt6.round(mc), mc).multiply(lamk.multiply(lamk, mc), mc).multiply(new BigDecimal(2)), mc);
+        sum = sum.add(t);
+      }
+    }
+    return sum.add(new BigDecimal(sumDbl)).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+  } /* rademacher */
+
+  /**
+   * The cosine at high precision.
+   * BigDecimalMath.cos() estimates its errors in double arithmetic, which underflows for
+   * arguments with more than about 300 digits. Here the argument is divided by 2^16, the
+   * Taylor series evaluated, and the angle doubled 16 times with cos(2x)=2cos^2(x)-1.
+   *
+   * @param x  the argument, in the range 0 to 2pi.
+   * @param mc the absolute accuracy, which is the precision for arguments of order 1.
+   * @return cos(x).
+   * @since 2026-10-19
+   */
+  static private BigDecimal cos(final BigDecimal x, final MathContext mc) {
+    final int halvings = 16;
+                /* each doubling multiplies the error by up to 4 */
+    final MathContext mcloc = new MathContext(mc.getPrecision() + 12);
+    final BigDecimal x2 = x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(halvings)), mcloc).pow(2, mcloc);
+    final BigDecimal eps = BigDecimal.ONE.movePointLeft(mcloc.getPrecision() + 1);
+    BigDecimal term = BigDecimal.ONE;
+    BigDecimal c = BigDecimal.ONE;
+    for (int i = 1; term.abs().compareTo(eps) > 0; i++) {
+      term = term.multiply(x2, mcloc).divide(new BigDecimal((2L * i - 1) * 2 * i), mcloc).negate();
+      c = c.add(term, mcloc);
+    }
+    final BigDecimal two = new BigDecimal(2);
+    for (int h = 0; h < halvings; h++)
+      c = c.multiply(c, mcloc).multiply(two).subtract(BigDecimal.ONE, mcloc);
+    return c.round(mc);
+  } /* cos */
+
+  /**
+   * The precision of a term of the Rademacher series.
+   *
+   * @param mu    the argument of the hyperbolic functions, which sets the size of the term.
+   * @param guard the number of digits after the decimal point.
+   * @return the number of significant digits.
+   * @since 2026-10-19
+   */
+  static private int prec(final double mu, final int guard) {
+                /* exp(mu) and the absolute error of mu, which is the relative error of exp(mu) */
+    return (int) (mu / Math.log(10.0)) + (int) Math.log10(mu + 1.0) + guard + 10;
+  } /* prec */
+
+  /**
+   * Lehmer's bound on the remainder of the Rademacher series.
+   *
+   * @param n the argument of p(), at least 2.
+   * @param N the number of terms summed.
+   * @return An upper bound on the absolute value of the sum of the terms N+1, N+2,...
+   * @since 2026-10-19
+   */
+  static private double remainderBound(final int n, final int N) {
+    return 44.0 * Math.PI * Math.PI / (225.0 * Math.sqrt(3.0) * Math.sqrt(N))
+      + Math.PI * Math.sqrt(2.0) / 75.0 * Math.sqrt(N / (n - 1.0)) * Math.sinh(Math.PI / N * Math.sqrt(2.0 * n / 3.0));
+  } /* remainderBound */
+
   /**
    * Test program.
    * It takes one integer argument n and prints P(n).<br>
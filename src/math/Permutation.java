@@ -1,5 +1,6 @@
 package math;
 
+import java.math.BigInteger;
 import java.util.Random;
 import java.util.Vector;
 
@@ -22,6 +23,14 @@ class Permutation implements Cloneable {
    */
   private int ord;
 
+  /**
+   * The cycle type. ctype[k] is the number of cycles of length k, including ctype[1] fixed elements.
+   * Null means that this is not yet known.
+   *
+   * @since 2026-10-19
+   */
+  private int[] ctype;
+
   /**
    * Defines whether the permutation is represented with indices 0..n-1 or with 1..n
    * The value is either 1 (more complicated) or 0 (simpler to implement).
@@ -37,6 +46,22 @@ class Permutation implements Cloneable {
     init(v);
   } /* ctor */
 
+  /**
+   * Ctor with a list of images that is used without copying.
+   *
+   * @param v    The list of integers.
+   * @param copy If true, the list is copied, if false it becomes the internal storage.
+   * @since 2026-10-19
+   */
+  private Permutation(final int[] v, final boolean copy) {
+    if (copy)
+      init(v);
+    else {
+      images = v;
+      ord = -1;
+    }
+  } /* ctor */
+
   /**
    * Ctor for the unit permutation.
    * This is either (1,2,..,n) or (0,1,...,n-1) depending on the internally fixed offset.
@@ -160,11 +185,35 @@ class Permutation implements Cloneable {
    */
   public Permutation inverse() {
     int[] invi = new int[images.length];
-    for (int i = 0; i < images.length; i++)
-      invi[images[i] - REPOFFSET] = i + REPOFFSET;
-    return new Permutation(invi);
+    inverse(images, invi);
+    return new Permutation(invi, false);
   } /* inverse */
 
+  /**
+   * Calculate the inverse permutation of a list of images.
+   *
+   * @param p   The images of the permutation.
+   * @param inv On return the images of the inverse permutation. Same length as p, not the same array.
+   * @since 2026-10-19
+   */
+  static public void inverse(final int[] p, final int[] inv) {
+    for (int i = 0; i < p.length; i++)
+      inv[p[i] - REPOFFSET] = i + REPOFFSET;
+  } /* inverse */
+
+  /**
+   * Multiply two permutations given by their lists of images.
+   *
+   * @param left  The images of the permutation acting first.
+   * @param right The images of the permutation acting second.
+   * @param prod  On return the images of the product. Same length as the factors, and not the same array as left.
+   * @since 2026-10-19
+   */
+  static public void multiply(final int[] left, final int[] right, final int[] prod) {
+    for (int i = 0; i < left.length; i++)
+      prod[i] = right[left[i] - REPOFFSET];
+  } /* multiply */
+
   /**
    * Multiply with another permutation (which is placed to the right).
    * The result is the product of the permutations in the sense that
@@ -182,17 +231,15 @@ class Permutation implements Cloneable {
                 /* the list of images in the new product
                 */
     int[] prod = new int[images.length];
-    for (int i = 0; i < images.length; i++)
-                        /* pay attention to 1-offset convention of permutations here
-                        * Standard slower implementation:
-                        * prod[i] = right.imageOf(imageOf(i+REPOFFSET)) ;
-                        * Inlined version follows:
-                        */
-      prod[i] = right.images[images[i] - REPOFFSET];
+                /* pay attention to 1-offset convention of permutations here
+                * Standard slower implementation:
+                * prod[i] = right.imageOf(imageOf(i+REPOFFSET)) ;
+                */
+    multiply(images, right.images, prod);
 
                 /* convert the images to a permutation
                 */
-    return new Permutation(prod);
+    return new Permutation(prod, false);
   } /* multiply */
 
   /**
@@ -248,18 +295,132 @@ class Permutation implements Cloneable {
                 /* recall any previously saved value to speed things up.
                 */
     if (ord <= 0) {
-      int[][] cyc = cycles();
-      if (cyc.length < 1)
-        ord = 1;
-      else {
-        ord = cyc[0].length;
-        for (int c = 1; c < cyc.length; c++)
-          ord = lcm(ord, cyc[c].length);
-      }
+      cycleType();
+      ord = 1;
+      for (int k = 2; k < ctype.length; k++)
+        if (ctype[k] > 0)
+          ord = lcm(ord, k);
     }
     return ord;
   } /* orderByCycles */
 
+  /**
+   * Calculate the cycle type.
+   * The cycle type is a partition of n, the number of elements. It is computed in one pass
+   * over the images and kept for subsequent calls.
+   *
+   * @return An array of length n+1 where [k] is the number of cycles of length k. [1] is
+   * the number of fixed elements, [0] is zero.
+   * @since 2026-10-19
+   */
+  public int[] cycleType() {
+    if (ctype == null) {
+      int[] t = new int[images.length + 1];
+      boolean[] done = new boolean[images.length];
+      for (int s = 0; s < images.length; s++)
+        if (!done[s]) {
+          int len = 0;
+          for (int e = s; !done[e]; e = images[e] - REPOFFSET) {
+            done[e] = true;
+            len++;
+          }
+          t[len]++;
+        }
+      ctype = t;
+    }
+    return ctype.clone();
+  } /* cycleType */
+
+  /**
+   * The size of a conjugacy class of the symmetric group.
+   * The number of permutations of n elements with m_k cycles of length k is n!/prod_k (k^m_k m_k!).
+   *
+   * @param type The cycle type, [k] the number of cycles of length k as returned by cycleType().
+   * @return The number of permutations with that cycle type.
+   * @since 2026-10-19
+   */
+  static public BigInteger classSize(final int[] type) {
+    int[] part = new int[type.length];
+    int[] mult = new int[type.length];
+    int n = 0;
+    int d = 0;
+    for (int k = 1; k < type.length; k++)
+      if (type[k] > 0) {
+        part[d] = k;
+        mult[d++] = type[k];
+        n += k * type[k];
+      }
+    return classSize(n, part, mult, d);
+  } /* classSize */
+
+  /**
+   * The size of a conjugacy class of the symmetric group.
+   *
+   * @param n    The number of elements.
+   * @param part The cycle lengths, a partition of n in the multiplicity form of Partitions.Visitor.
+   * @param mult The number of cycles of each length.
+   * @param d    The number of distinct cycle lengths.
+   * @return The number of permutations with that cycle type.
+   * @since 2026-10-19
+   */
+  static private BigInteger classSize(final int n, final int[] part, final int[] mult, final int d) {
+    Factorial f = new Factorial();
+    BigInteger den = BigInteger.ONE;
+    for (int i = 0; i < d; i++)
+      den = den.multiply(BigInteger.valueOf(part[i]).pow(mult[i])).multiply(f.at(mult[i]));
+    return f.at(n).divide(den);
+  } /* classSize */
+
+  /**
+   * Count the permutations of a given order in the symmetric group.
+   * The cycle types, partitions of n into parts that divide the order, are enumerated
+   * with Partitions.visit() and the sizes of the classes with lcm of the parts equal to the order are summed.
+   *
+   * @param n The number of elements.
+   * @param k The order.
+   * @return The number of permutations of n elements with order k.
+   * @since 2026-10-19
+   */
+  static public BigInteger countOfOrder(final int n, final int k) {
+    final BigInteger[] cnt = {BigInteger.ZERO};
+    if (k >= 1)
+      Partitions.visit(n, Math.min(n, k), false, (part, mult, d) -> {
+        long l = 1;
+        for (int i = 0; i < d; i++) {
+          if (k % part[i] != 0)
+            return true;
+          l = l / gcd((int) l, part[i]) * part[i];
+        }
+        if (l == k)
+          cnt[0] = cnt[0].add(classSize(n, part, mult, d));
+        return true;
+      });
+    return cnt[0];
+  } /* countOfOrder */
+
+  /**
+   * Evaluate the cycle index of the symmetric group.
+   * Z(S_n) = sum over the cycle types of prod_k a_k^m_k/(k^m_k m_k!) is computed with
+   * the recurrence n*Z(S_n) = sum_{k=1..n} a_k*Z(S_{n-k}), which is quadratic in n.
+   * With all a_k=c this is the number of ways to color a multiset of n elements with c colors.
+   *
+   * @param n The number of elements.
+   * @param a The values of the variables, a[k] for the cycles of length k, k=1..n. a[0] is not used.
+   * @return The cycle index of S_n.
+   * @since 2026-10-19
+   */
+  static public Rational cycleIndex(final int n, final Rational[] a) {
+    Rational[] z = new Rational[n + 1];
+    z[0] = Rational.ONE;
+    for (int m = 1; m <= n; m++) {
+      z[m] = Rational.ZERO;
+      for (int k = 1; k <= m; k++)
+        z[m] = z[m].add(a[k].multiply(z[m - k]));
+      z[m] = z[m].divide(m);
+    }
+    return z[n];
+  } /* cycleIndex */
+
   /**
    * Calculate the order.
    * This is computed by the lcm of the lengths of the cycles.
@@ -440,6 +601,8 @@ class Permutation implements Cloneable {
     final int tmp = images[i];
     images[i] = images[j];
     images[j] = tmp;
+    ord = -1;
+    ctype = null;
   } /* swap */
 
   /**
@@ -697,38 +860,18 @@ class Permutation implements Cloneable {
                          1 9495 31040 209160 78624 584640 86400 453600 403200 514080 0 403200 0 259200 120960 0 0
 
                         */
-      for (int n = 1; n < 10; n++) {
-                                /* construct the permutation (0,1,2,3,...,n-1)
+      for (int n = 1; n < maxc.length; n++) {
+                                /* sum of the counts over all orders, which is n!
                                 */
-        int[] v = new int[n];
-        for (int i = 0; i < n; i++)
-          v[i] = i + REPOFFSET;
-
-                                /* set the count of permutations to zero
-                                */
-        long cyct = 0;
+        BigInteger cyct = BigInteger.ZERO;
                                 /* loop over the possible cycle lengths (orders of elements)
-                                * up to the maximum possible for the symmetric group S_n
+                                * up to the maximum possible for the symmetric group S_n.
+                                * The counts are taken from the sizes of the classes of cycle types.
                                 */
         for (int cylen = 1; cylen <= maxc[n]; cylen++) {
-          long ct = 0;
-                                        /* Start with the mutable permutation (0,1,2,3,...,n-1)
-                                        * and loop over all its permutations.
-                                        */
-          Permute S = new Permute(v);
-          while (!S.exhst) {
-            final int[] p = S.next();
-                                                /* define the single explicit permutation in the loop over permutations
-                                                */
-            Permutation pper = new Permutation(p);
-                                                /* if this has a cycle length we are looking for, increase the count by 1
-                                                */
-            if (pper.orderByCycles() == cylen) {
-              ct++;
-            }
-          }
+          final BigInteger ct = countOfOrder(n, cylen);
           System.out.print(" " + ct);
-          cyct += ct;
+          cyct = cyct.add(ct);
         }
         System.out.println(": " + cyct);
       }
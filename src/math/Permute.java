@@ -1,41 +1,69 @@
 package math;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.Vector;
+import java.util.function.Consumer;
 
 /**
  * This class creates permutations of [1,2,...,n], iteratively one at a time.
+ * The iterator runs through Heap's sequence, where each permutation differs from the previous
+ * one by a single swap of two elements, on one array that is mutated in place. The spliterator()
+ * runs through the permutations in lexicographic order, which is the order of their rank(), and
+ * splits this range of ranks with unrank().
  *
  * @author Richard J. Mathar
  * @since 2010-09-13
  */
 class Permute implements Iterator {
-  /**
-   * A pointer from 0 to n-1 into the list of the original vector
-   * of elements to be permuted. This is basically the element that
-   * will be the head element of new calls. This pointer moves slowly upwards
-   * in the elements of the original vector.
-   */
-  private int workptr;
-
   /**
    * A flag which is true if the number of permutations is exhausted.
    * If true, additional calls to next() will return the empty vector.
    */
   public boolean exhst;
 
-  /**
-   * Slave permutation. This runs through the permutations of all
-   * subsets of the original integer set with the exception of the one addresed by workptr.
-   */
-  private Permute slav;
-
   /**
    * The set of integers to be permuted.
    * There are (orgset.length)! calls to next() until the vector of length zero is returned.
    */
   private int[] orgset;
 
+  /**
+   * The current permutation, which is permuted in place by next().
+   *
+   * @since 2026-10-19
+   */
+  private int[] workset;
+
+  /**
+   * The loop counters of Heap's algorithm, c[i] in the range 0 to i.
+   *
+   * @since 2026-10-19
+   */
+  private int[] c;
+
+  /**
+   * The number of permutations returned by next().
+   *
+   * @since 2026-10-19
+   */
+  private long emitted;
+
+  /**
+   * The number of permutations, n!, or the maximum of the long integers if this is larger.
+   *
+   * @since 2026-10-19
+   */
+  private long total;
+
+  /**
+   * The largest n for which n! fits into a long.
+   *
+   * @since 2026-10-19
+   */
+  static final int MAXRANKED = 20;
+
   /**
    * Ctor with a set of integers to be permuted.
    * Calls to next() will return a permutation of these.
@@ -102,64 +130,44 @@ class Permute implements Iterator {
    * @since 2010-09-13
    */
   private void init(final int[] v) {
-    workptr = 0;
     orgset = v.clone();
-    if (v.length >= 0) {
-      exhst = false;
-
-      if (v.length >= 2) {
-        int[] workset = new int[v.length - 1];
-        for (int i = 1; i < v.length; i++)
-          workset[i - 1] = v[i];
-        slav = new Permute(workset);
-      }
-    } else
-      exhst = true;
+    workset = v.clone();
+    c = new int[v.length];
+    emitted = 0;
+    total = (v.length <= MAXRANKED) ? factorial(v.length) : Long.MAX_VALUE;
+    exhst = false;
   } /* init */
 
-
   /**
    * Move one step to emit another permutation.
-   * /* @return A new permutation of the original set of integers.
+   * The first call returns the original order of the integers, each further call swaps two of them.
+   *
+   * @return The permutation of the original set of integers. This is the same array at each call,
+   * which is overwritten by the next call.
    * A vector of zero length is returned if no new permutation is available.
    * In that respect, each call of next() should only follow a test of the exhst flag.
-   *
    * @author Richard J. Mathar
    * @since 2010-09-13
    */
   public int[] next() {
-    if (orgset.length <= 1) {
-      exhst = true;
-      return orgset;
-    }
-    if (!slav.exhst) {
-      int[] workset = new int[orgset.length];
-      workset[0] = orgset[workptr];
-      int[] slavset = slav.next();
-      for (int i = 0; i < slavset.length; i++)
-        workset[i + 1] = slavset[i];
-
-      if (workptr == orgset.length - 1 && slav.exhst)
-        exhst = true;
-      return workset;
-    } else {
-      workptr++;
-      if (workptr >= orgset.length) {
-                                /* cannot move on to anothe rfirst element */
-        exhst = true;
-        return new int[0];
-      } else {
-        int[] workset = new int[orgset.length - 1];
-        for (int i = 0; i < workptr; i++)
-          workset[i] = orgset[i];
-        for (int i = workptr + 1; i < orgset.length; i++)
-          workset[i - 1] = orgset[i];
-        slav = new Permute(workset);
-
-
-        return next();
-      }
+    if (exhst)
+      return new int[0];
+    if (emitted > 0) {
+                        /* the iterative form of Heap's algorithm: find the lowest level i
+                        * with an unfinished loop and swap the last of the first i+1 elements
+                        * with the first (i even) or the c[i]-th (i odd) one.
+                        */
+      int i = 1;
+      while (c[i] >= i)
+        c[i++] = 0;
+      final int j = (i % 2 == 0) ? 0 : c[i];
+      final int tmp = workset[j];
+      workset[j] = workset[i];
+      workset[i] = tmp;
+      c[i]++;
     }
+    exhst = (++emitted == total);
+    return workset;
   } /* next */
 
   /**
@@ -172,18 +180,212 @@ class Permute implements Iterator {
    * @since 2010-09-13
    */
   public int[] current() {
-    if (orgset.length <= 1)
-      return orgset;
-
-    int[] workset = new int[orgset.length];
-    workset[0] = orgset[workptr];
-    int[] slavset = slav.current();
-    for (int i = 0; i < slavset.length; i++)
-      workset[i + 1] = slavset[i];
-
     return workset;
   }
 
+  /**
+   * The permutations of the set of integers as a source of streams.
+   * The permutations are passed to the actions in lexicographic order of the values. Each part
+   * of a split passes its own array, which is overwritten after each action.
+   *
+   * @return The spliterator over all permutations.
+   * @throws ArithmeticException if there are more than 20 integers, so the count exceeds a long.
+   * @since 2026-10-19
+   */
+  public Spliterator<int[]> spliterator() {
+    int[] base = orgset.clone();
+    Arrays.sort(base);
+    return new PermSpliterator(base, 0, factorial(base.length));
+  } /* spliterator */
+
+  /**
+   * Spliterator over a range of ranks of the permutations.
+   *
+   * @since 2026-10-19
+   */
+  static private class PermSpliterator implements Spliterator<int[]> {
+    /**
+     * The sorted set of integers.
+     */
+    final int[] base;
+
+    /**
+     * The rank of the next permutation, and one beyond the rank of the last.
+     */
+    long lo, hi;
+
+    /**
+     * The permutation most recently passed as indices into base[], null before the first one.
+     */
+    int[] idx;
+
+    /**
+     * The permutation most recently passed, base[idx[]].
+     */
+    int[] perm;
+
+    PermSpliterator(final int[] base, final long lo, final long hi) {
+      this.base = base;
+      this.lo = lo;
+      this.hi = hi;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+      if (lo >= hi)
+        return false;
+      if (idx == null) {
+        idx = unrankIdx(base.length, lo);
+        perm = new int[base.length];
+        for (int i = 0; i < idx.length; i++)
+          perm[i] = base[idx[i]];
+      } else {
+        final int from = nextIdx(idx);
+        for (int i = from; i < idx.length; i++)
+          perm[i] = base[idx[i]];
+      }
+      lo++;
+      action.accept(perm);
+      return true;
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+      if (hi - lo < 2)
+        return null;
+      final long mid = lo + (hi - lo) / 2;
+      PermSpliterator upper = new PermSpliterator(base, mid, hi);
+      hi = mid;
+      return upper;
+    }
+
+    @Override
+    public long estimateSize() {
+      return hi - lo;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+  } /* PermSpliterator */
+
+  /**
+   * The next permutation of indices in lexicographic order.
+   * Amortized, this swaps fewer than e elements per call.
+   *
+   * @param idx A permutation of 0..n-1 that is not the last, reversed, one. On return the next one.
+   * @return The position of the first element that changed.
+   * @since 2026-10-19
+   */
+  static private int nextIdx(final int[] idx) {
+                /* the longest non-increasing tail, its left neighbour, and the smallest larger element in the tail */
+    int i = idx.length - 2;
+    while (idx[i] > idx[i + 1])
+      i--;
+    int j = idx.length - 1;
+    while (idx[j] < idx[i])
+      j--;
+    int tmp = idx[i];
+    idx[i] = idx[j];
+    idx[j] = tmp;
+    for (int l = i + 1, r = idx.length - 1; l < r; l++, r--) {
+      tmp = idx[l];
+      idx[l] = idx[r];
+      idx[r] = tmp;
+    }
+    return i;
+  } /* nextIdx */
+
+  /**
+   * The number of permutations of n elements.
+   *
+   * @param n The number of elements.
+   * @return n!
+   * @throws ArithmeticException if n! does not fit into a long.
+   * @since 2026-10-19
+   */
+  static long factorial(final int n) {
+    if (n > MAXRANKED)
+      throw new ArithmeticException("Permutations of " + n + " elements are not ranked with long integers");
+    long f = 1;
+    for (int i = 2; i <= n; i++)
+      f *= i;
+    return f;
+  } /* factorial */
+
+  /**
+   * The rank of a permutation in the lexicographic order.
+   * The Lehmer code of the permutation, the number of smaller elements to the right of each element,
+   * are the digits of the rank in the factorial number system.
+   *
+   * @param perm A list of distinct integers.
+   * @return The rank, 0 for the sorted list up to n!-1 for the reversed list.
+   * @throws ArithmeticException if there are more than 20 integers.
+   * @since 2026-10-19
+   */
+  static public long rank(final int[] perm) {
+    final int n = perm.length;
+    factorial(n);
+    long r = 0;
+    for (int i = 0; i < n; i++) {
+      int lehmer = 0;
+      for (int j = i + 1; j < n; j++)
+        if (perm[j] < perm[i])
+          lehmer++;
+      r = r * (n - i) + lehmer;
+    }
+    return r;
+  } /* rank */
+
+  /**
+   * The permutation of a given rank in the lexicographic order.
+   *
+   * @param n The number of elements, which are REPOFFSET up to n-1+REPOFFSET.
+   * @param r The rank, from 0 up to n!-1.
+   * @return The permutation with rank r.
+   * @throws ArithmeticException if the rank is out of range.
+   * @since 2026-10-19
+   */
+  static public int[] unrank(final int n, final long r) {
+    int[] idx = unrankIdx(n, r);
+    for (int i = 0; i < n; i++)
+      idx[i] += Permutation.REPOFFSET;
+    return idx;
+  } /* unrank */
+
+  /**
+   * The permutation of 0..n-1 of a given rank in the lexicographic order.
+   *
+   * @param n The number of elements.
+   * @param r The rank, from 0 up to n!-1.
+   * @return The permutation with rank r.
+   * @throws ArithmeticException if the rank is out of range.
+   * @since 2026-10-19
+   */
+  static private int[] unrankIdx(final int n, long r) {
+    if (r < 0 || r >= factorial(n))
+      throw new ArithmeticException("Rank " + r + " out of range for " + n + " elements");
+                /* the Lehmer code, lowest digit with base 1 at the end */
+    int[] lehmer = new int[n];
+    for (int i = n - 1; i >= 0; i--) {
+      lehmer[i] = (int) (r % (n - i));
+      r /= n - i;
+    }
+                /* the lehmer[i]-th of the elements not yet used */
+    int[] perm = new int[n];
+    boolean[] used = new boolean[n];
+    for (int i = 0; i < n; i++) {
+      int e = 0;
+      for (int k = lehmer[i]; used[e] || k > 0; e++)
+        if (!used[e])
+          k--;
+      used[e] = true;
+      perm[i] = e;
+    }
+    return perm;
+  } /* unrankIdx */
+
   /**
    * Print the permutation as a left-right list of integers.
    * This is the single-line form of the representation.
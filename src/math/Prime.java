@@ -1,6 +1,7 @@
 package math;
 
 import java.math.BigInteger;
+import java.util.BitSet;
 import java.util.Vector;
 
 /**
@@ -12,6 +13,8 @@ import java.util.Vector;
  * appear to become faster.  (ii) Using the implementation for factorizations
  * may easily require all available memory and stall finally, because indeed
  * a dense list of primes with growing upper bound is kept without any hashing or lagging scheme.
+ * The list is therefore limited to LIST_LIMIT primes; prime counts and primes of larger index
+ * are computed by pi(long) and nthPrime() without the list.
  *
  * @author Richard J. Mathar
  * @since 2006-08-11
@@ -27,28 +30,61 @@ public class Prime {
    */
   static protected BigInteger nMax = new BigInteger("-1");
 
+  /**
+   * The primes below 41, used for trial divisions before the probable prime tests.
+   */
+  static private final long[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+  /**
+   * Bases of the strong pseudoprime tests which are deterministic below 2^64.
+   */
+  static private final long[] MR_BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+  /**
+   * The number of primes kept in the list.
+   * at() computes primes of larger index with nthPrime() without storing them.
+   *
+   * @since 2026-10-19
+   */
+  static private final int LIST_LIMIT = 1 << 18;
+
+  /**
+   * The largest argument of pi(long), such that its square root and the table indices fit into integers.
+   *
+   * @since 2026-10-19
+   */
+  static private final long PI_LIMIT = 1L << 60;
+
+  /**
+   * The length of the segments of the segmented sieve.
+   *
+   * @since 2026-10-19
+   */
+  static private final int SEGMENT = 1 << 18;
+
   /**
    * Default constructor initializing a list of primes up to 17.
-   * 17 is enough to call the Miller-Rabin tests on the first 7 primes without further
-   * action.
    *
    * @author Richard J. Mathar
    */
   public Prime() {
-    if (a.size() == 0) {
-      a.add(new BigInteger("" + 2));
-      a.add(new BigInteger("" + 3));
-      a.add(new BigInteger("" + 5));
-      a.add(new BigInteger("" + 7));
-      a.add(new BigInteger("" + 11));
-      a.add(new BigInteger("" + 13));
-      a.add(new BigInteger("" + 17));
+    synchronized (a) {
+      if (a.size() == 0) {
+        a.add(new BigInteger("" + 2));
+        a.add(new BigInteger("" + 3));
+        a.add(new BigInteger("" + 5));
+        a.add(new BigInteger("" + 7));
+        a.add(new BigInteger("" + 11));
+        a.add(new BigInteger("" + 13));
+        a.add(new BigInteger("" + 17));
+      }
+      nMax = a.lastElement();
     }
-    nMax = a.lastElement();
   }
 
   /**
    * Test if a number is a prime.
+   * Below 2^64 the result is exact; above, it is the result of the Baillie-PSW test.
    *
    * @param n the integer to be tested for primality
    * @return true if prime, false if not
@@ -58,14 +94,7 @@ public class Prime {
                 /* not documented
                 * return ( n.isProbablePrime() ) ;
                 */
-    switch (millerRabin(n)) {
-      case -1:
-        return false;
-      case 1:
-        return true;
-    }
-    growto(n);
-    return (a.contains(n));
+    return millerRabin(n) >= 0;
   }
 
   /**
@@ -118,39 +147,304 @@ public class Prime {
 
   /**
    * Miller-Rabin primality tests.
+   * Numbers below 2^63 are tested by isPrime(long); larger ones by the Baillie-PSW test.
    *
    * @param n The prime candidate
    * @return -1 if n is a composite, 1 if it is a prime, 0 if it may be a prime.
+   * The result 0 is returned for numbers above 2^63 that pass the Baillie-PSW test, for which
+   * no composite is known.
    * @author Richard J. Mathar
    * @since 2010-02-25
    */
   public int millerRabin(final BigInteger n) {
-                /* list of limiting numbers which fail tests on k primes, A014233 in the OEIS
-                */
-    final String[] mr = {"2047", "1373653", "25326001", "3215031751", "2152302898747", "3474749660383",
-      "341550071728321"};
-    int mrLim = 0;
-    while (mrLim < mr.length) {
-      int l = n.compareTo(new BigInteger(mr[mrLim]));
-      if (l < 0)
-        break;
-                        /* if one of the pseudo-primes: this is a composite
-                        */
-      else if (l == 0)
-        return -1;
-      mrLim++;
+    if (n.bitLength() < 64)
+      return isPrime(n.longValue()) ? 1 : -1;
+    return isBPSW(n) ? 0 : -1;
+  }
+
+  /**
+   * Deterministic primality test of a long integer.
+   * Strong pseudoprime tests to the seven bases of Jaeschke and Sinclair, which have no common
+   * strong pseudoprime below 2^64. The modular multiplications are in Montgomery's representation
+   * in long arithmetic, so no objects are allocated.
+   *
+   * @param n the integer to be tested for primality
+   * @return true if prime, false if not
+   * @since 2026-10-19
+   */
+  static public boolean isPrime(final long n) {
+    if (n < 2)
+      return false;
+    for (long p : SMALL_PRIMES) {
+      if (n == p)
+        return true;
+      if (n % p == 0)
+        return false;
     }
-                /* cannot test candidates larger than the last in the mr list
+                /* no factor below 41 */
+    if (n < 41 * 41)
+      return true;
+
+                /* Montgomery constants for the modulus n and R=2^64: ninv = n^(-1) mod R,
+                * one = R mod n, r2 = R^2 mod n.
                 */
-    if (mrLim == mr.length)
-      return 0;
+    long ninv = n;
+    for (int i = 0; i < 5; i++)
+      ninv *= 2 - n * ninv;
+    final long one = Long.remainderUnsigned(-n, n);
+    long r2 = one;
+    for (int i = 0; i < 64; i++) {
+      r2 <<= 1;
+      if (r2 < 0 || r2 >= n)
+        r2 -= n;
+    }
+    final long minusOne = n - one;
+
+    long d = n - 1;
+    final int s = Long.numberOfTrailingZeros(d);
+    d >>= s;
+    for (long a : MR_BASES) {
+      a %= n;
+      if (a == 0)
+        continue;
+      long x = montPow(montMul(a, r2, n, ninv), d, one, n, ninv);
+      if (x == one || x == minusOne)
+        continue;
+      boolean comp = true;
+      for (int r = 1; r < s && comp; r++) {
+        x = montMul(x, x, n, ninv);
+        if (x == minusOne)
+          comp = false;
+        else if (x == one)
+          break;
+      }
+      if (comp)
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Baillie-PSW probable prime test.
+   * Trial division by small primes, a strong pseudoprime test to base 2, and a strong Lucas
+   * test with Selfridge's parameters.
+   *
+   * @param n the integer to be tested for primality
+   * @return false if n is composite, true if it is a probable prime.
+   * @since 2026-10-19
+   */
+  static public boolean isBPSW(final BigInteger n) {
+    if (n.bitLength() < 64)
+      return isPrime(n.longValue());
+    for (long p : SMALL_PRIMES)
+      if (n.mod(BigInteger.valueOf(p)).signum() == 0)
+        return false;
+
+                /* strong pseudoprime to base 2 */
+    final BigInteger nm1 = n.subtract(BigInteger.ONE);
+    final int s = nm1.getLowestSetBit();
+    BigInteger x = BigInteger.valueOf(2).modPow(nm1.shiftRight(s), n);
+    if (x.compareTo(BigInteger.ONE) != 0 && x.compareTo(nm1) != 0) {
+      int r = 1;
+      for (; r < s; r++) {
+        x = x.multiply(x).mod(n);
+        if (x.compareTo(nm1) == 0)
+          break;
+        if (x.compareTo(BigInteger.ONE) == 0)
+          return false;
+      }
+      if (r == s)
+        return false;
+    }
+    return isStrongLucas(n);
+  }
+
+  /**
+   * Strong Lucas probable prime test.
+   * D is the first of 5, -7, 9, -11, 13,... with Jacobi symbol (D/n) = -1, and P=1, Q=(1-D)/4.
+   *
+   * @param n the odd integer to be tested, without factors below 41, and larger than 2^63.
+   * @return false if n is composite, true if it is a strong Lucas probable prime.
+   * @since 2026-10-19
+   */
+  static private boolean isStrongLucas(final BigInteger n) {
+    long D = 5;
+    for (int j; (j = jacobi(D, n)) != -1; ) {
+                        /* (D/n)=0 means gcd(|D|,n)>1, and n is larger than |D| */
+      if (j == 0)
+        return false;
+                        /* there is no such D if n is a square */
+      if (D == 13 && BigIntegerMath.isqrt(n).pow(2).compareTo(n) == 0)
+        return false;
+      D = (D > 0) ? -D - 2 : -D + 2;
+    }
+    final BigInteger bD = BigInteger.valueOf(D);
+    final BigInteger Q = BigInteger.valueOf((1 - D) / 4);
 
-                /* test the bases prime(1), prime(2) up to prime(mrLim+1)
+                /* n+1 = d*2^s. U_d and V_d by the binary expansion of d, with U_1=1, V_1=P=1.
                 */
-    for (int p = 0; p <= mrLim; p++)
-      if (isSPP(n, at(p)) == false)
-        return -1;
-    return 1;
+    final BigInteger np1 = n.add(BigInteger.ONE);
+    final int s = np1.getLowestSetBit();
+    final BigInteger d = np1.shiftRight(s);
+    BigInteger U = BigInteger.ONE;
+    BigInteger V = BigInteger.ONE;
+    BigInteger Qk = Q.mod(n);
+    for (int b = d.bitLength() - 2; b >= 0; b--) {
+                        /* U_2k = U_k V_k, V_2k = V_k^2 - 2Q^k */
+      U = U.multiply(V).mod(n);
+      V = V.multiply(V).subtract(Qk.shiftLeft(1)).mod(n);
+      Qk = Qk.multiply(Qk).mod(n);
+      if (d.testBit(b)) {
+                                /* U_(2k+1) = (P U_2k + V_2k)/2, V_(2k+1) = (D U_2k + P V_2k)/2 */
+        final BigInteger u = U.add(V);
+        final BigInteger v = bD.multiply(U).add(V);
+        U = half(u, n);
+        V = half(v, n);
+        Qk = Qk.multiply(Q).mod(n);
+      }
+    }
+    if (U.signum() == 0 || V.signum() == 0)
+      return true;
+    for (int r = 1; r < s; r++) {
+      V = V.multiply(V).subtract(Qk.shiftLeft(1)).mod(n);
+      if (V.signum() == 0)
+        return true;
+      Qk = Qk.multiply(Qk).mod(n);
+    }
+    return false;
+  }
+
+  /**
+   * Division by 2 modulo an odd integer.
+   *
+   * @param x The dividend.
+   * @param n The odd modulus.
+   * @return x/2 (mod n) in the range 0 to n-1.
+   * @since 2026-10-19
+   */
+  static private BigInteger half(BigInteger x, final BigInteger n) {
+    x = x.mod(n);
+    if (x.testBit(0))
+      x = x.add(n);
+    return x.shiftRight(1);
+  }
+
+  /**
+   * Jacobi symbol of a small odd integer over a large odd integer.
+   *
+   * @param D An odd integer, positive or negative.
+   * @param n An odd positive integer, coprime to D.
+   * @return The Jacobi symbol (D/n).
+   * @since 2026-10-19
+   */
+  static private int jacobi(final long D, final BigInteger n) {
+    final long a = Math.abs(D);
+                /* (-1/n) = (-1)^((n-1)/2) */
+    int j = (D < 0 && n.testBit(1)) ? -1 : 1;
+                /* reciprocity: (a/n) = (n/a) (-1)^((a-1)/2*(n-1)/2) */
+    if ((a & 3) == 3 && n.testBit(1))
+      j = -j;
+    long x = n.mod(BigInteger.valueOf(a)).longValue();
+    long m = a;
+    while (x != 0) {
+      while ((x & 1) == 0) {
+        x >>= 1;
+        if ((m & 7) == 3 || (m & 7) == 5)
+          j = -j;
+      }
+      final long t = x;
+      x = m;
+      m = t;
+      if ((x & 3) == 3 && (m & 3) == 3)
+        j = -j;
+      x %= m;
+    }
+    return (m == 1) ? j : 0;
+  }
+
+  /**
+   * The primes up to a limit by the sieve of Eratosthenes.
+   * The sieve contains only the odd numbers.
+   *
+   * @param lim The upper limit.
+   * @return The primes up to and including lim, in ascending order.
+   * @since 2026-10-19
+   */
+  static int[] sieve(final int lim) {
+    if (lim < 2)
+      return new int[0];
+                /* bit i set if 2i+1 is composite */
+    BitSet comp = new BitSet(lim / 2 + 1);
+    comp.set(0);
+    for (int i = 1; (long) (2 * i + 1) * (2 * i + 1) <= lim; i++)
+      if (!comp.get(i))
+        for (long j = ((long) (2 * i + 1) * (2 * i + 1)) / 2; j <= (lim - 1) / 2; j += 2 * i + 1)
+          comp.set((int) j);
+    int[] p = new int[1 + (lim - 1) / 2 + 1 - comp.cardinality()];
+    p[0] = 2;
+    int k = 1;
+    for (int i = comp.nextClearBit(1); i <= (lim - 1) / 2; i = comp.nextClearBit(i + 1))
+      p[k++] = 2 * i + 1;
+    return p;
+  }
+
+  /**
+   * Montgomery product.
+   *
+   * @param a    The first factor, in Montgomery representation, smaller than n.
+   * @param b    The second factor, in Montgomery representation, smaller than n.
+   * @param n    The odd modulus, smaller than 2^63.
+   * @param ninv The inverse of n modulo 2^64.
+   * @return a*b/2^64 (mod n), in the range 0 to n-1.
+   * @since 2026-10-19
+   */
+  static private long montMul(final long a, final long b, final long n, final long ninv) {
+    final long hi = mulHigh(a, b);
+    final long m = a * b * ninv;
+                /* (a*b - m*n)/2^64, where the low words cancel */
+    final long mh = mulHigh(m, n);
+    return (hi < mh) ? hi - mh + n : hi - mh;
+  }
+
+  /**
+   * Montgomery power.
+   *
+   * @param a    The base in Montgomery representation.
+   * @param e    The non-negative exponent.
+   * @param one  2^64 mod n, which represents 1.
+   * @param n    The odd modulus, smaller than 2^63.
+   * @param ninv The inverse of n modulo 2^64.
+   * @return a^e in Montgomery representation.
+   * @since 2026-10-19
+   */
+  static private long montPow(long a, long e, final long one, final long n, final long ninv) {
+    long r = one;
+    while (e != 0) {
+      if ((e & 1) != 0)
+        r = montMul(r, a, n, ninv);
+      a = montMul(a, a, n, ninv);
+      e >>>= 1;
+    }
+    return r;
+  }
+
+  /**
+   * The upper 64 bits of the unsigned 128-bit product.
+   *
+   * @param a The first factor, unsigned.
+   * @param b The second factor, unsigned.
+   * @return floor(a*b/2^64).
+   * @since 2026-10-19
+   */
+  static private long mulHigh(final long a, final long b) {
+    final long a0 = a & 0xffffffffL;
+    final long a1 = a >>> 32;
+    final long b0 = b & 0xffffffffL;
+    final long b1 = b >>> 32;
+    final long p01 = a0 * b1;
+    final long p10 = a1 * b0;
+    final long mid = ((a0 * b0) >>> 32) + (p01 & 0xffffffffL) + (p10 & 0xffffffffL);
+    return a1 * b1 + (p01 >>> 32) + (p10 >>> 32) + (mid >>> 32);
   }
 
   /**
@@ -161,11 +455,16 @@ public class Prime {
    * @author Richard J. Mathar
    */
   public BigInteger at(int i) {
-                /* If the current list is too small, increase in intervals
-                * of 5 until the list has at least i elements.
-                */
-    while (i >= a.size()) {
-      growto(nMax.add(new BigInteger("" + 5)));
+    if (i >= a.size()) {
+      if (i >= LIST_LIMIT)
+        return BigInteger.valueOf(nthPrime(i + 1L));
+                        /* If the current list is too small, extend it to an upper bound of the prime
+                        * and then in intervals of 5 until the list has at least i elements.
+                        */
+      final double k = Math.max(i + 1.0, 6.0);
+      growto(BigInteger.valueOf((long) (k * (Math.log(k) + Math.log(Math.log(k))))));
+      while (i >= a.size())
+        growto(nMax.add(new BigInteger("" + 5)));
     }
     return (a.elementAt(i));
   }
@@ -173,22 +472,161 @@ public class Prime {
   /**
    * return the count of primes less than or equal to n
    *
-   * @param n the upper limit of the scan
+   * @param n the upper limit of the scan, at most 2^60.
    * @return 0 if n is less than 2; 1 if n=2; 2 if n=3 or 4; 3 if n=5 or 6; and so forth.
+   * @throws ArithmeticException if n is larger than 2^60.
    * @author Richard J. Mathar
    */
   public BigInteger pi(BigInteger n) {
-                /* If the current list is too small, increase in intervals
-                * of 5 until the list has at least i elements.
-                */
-    growto(n);
-    BigInteger r = new BigInteger("0");
-    for (int i = 0; i < a.size(); i++)
-      if (a.elementAt(i).compareTo(n) <= 0)
-        r = r.add(BigInteger.ONE);
-    return r;
+    if (n.compareTo(BigInteger.valueOf(PI_LIMIT)) > 0)
+      throw new ArithmeticException("Prime count up to " + n + " beyond the limit " + PI_LIMIT);
+    return BigInteger.valueOf(pi(n.longValue()));
   }
 
+  /**
+   * The prime counting function.
+   * The algorithm of Lucy_Hedgehog keeps S(v), the number of integers 2..v that survive the sieve
+   * with the primes below p, for the values v=floor(x/i). Sieving with p removes the
+   * S(v/p)-S(p-1) survivors that are p times a survivor. The cost is O(x^(3/4)) operations
+   * with O(x^(1/2)) memory.
+   *
+   * @param x the upper limit of the count, at most 2^60.
+   * @return the number of primes less than or equal to x.
+   * @throws ArithmeticException if x is larger than 2^60.
+   * @since 2026-10-19
+   */
+  static public long pi(final long x) {
+    if (x < 2)
+      return 0;
+    if (x > PI_LIMIT)
+      throw new ArithmeticException("Prime count up to " + x + " beyond the limit " + PI_LIMIT);
+    final int r = (int) BigIntegerMath.isqrt(x);
+                /* small[v] = S(v) for v=1..r, large[i] = S(x/i) for i=1..r */
+    long[] small = new long[r + 1];
+    long[] large = new long[r + 1];
+    for (int v = 1; v <= r; v++) {
+      small[v] = v - 1;
+      large[v] = x / v - 1;
+    }
+    for (int p = 2; p <= r; p++) {
+      if (small[p] == small[p - 1])
+        continue;
+                        /* p is prime; sp is the number of primes below p */
+      final long sp = small[p - 1];
+      final long p2 = (long) p * p;
+      final long xp = x / p;
+      final int imax = (int) Math.min(r, x / p2);
+      final int idirect = Math.min(imax, r / p);
+      for (int i = 1; i <= idirect; i++)
+        large[i] -= large[i * p] - sp;
+      for (int i = idirect + 1; i <= imax; i++)
+        large[i] -= small[(int) (xp / i)] - sp;
+      for (int v = r; v >= p2; v--)
+        small[v] -= small[v / p] - sp;
+    }
+    return large[1];
+  } /* pi */
+
+  /**
+   * The n-th prime.
+   * The logarithmic integral is inverted to estimate the prime, the primes below the estimate are
+   * counted with pi(), and the primes up to the n-th one are located with a segmented sieve.
+   *
+   * @param n The one-based index.
+   * @return The n-th prime, 2 if n=1, 3 if n=2 and so forth.
+   * @throws ArithmeticException if n is not positive, or if the n-th prime is beyond the range of pi(long).
+   * @since 2026-10-19
+   */
+  static public long nthPrime(final long n) {
+    if (n < 1)
+      throw new ArithmeticException("Non-positive index " + n);
+    if (n <= 5)
+      return new long[]{2, 3, 5, 7, 11}[(int) n - 1];
+
+                /* Newton iteration of li(x)=n, where li'(x) = 1/log(x) */
+    double xd = n * Math.log(n);
+    for (int iter = 0; iter < 20; iter++) {
+      final double dx = (li(xd) - n) * Math.log(xd);
+      xd -= dx;
+      if (Math.abs(dx) < 1.0)
+        break;
+    }
+    long x = (long) xd;
+    long c = pi(x);
+    if (c >= n) {
+                        /* walk down to the segment that contains the n-th prime */
+      for (; ; ) {
+        final long lo = Math.max(2, x - SEGMENT + 1);
+        final int[] seg = segment(lo, x);
+        if (c - seg.length < n)
+          return lo + seg[(int) (n - (c - seg.length)) - 1];
+        c -= seg.length;
+        x = lo - 1;
+      }
+    } else {
+      for (; ; ) {
+        final long hi = x + SEGMENT;
+        final int[] seg = segment(x + 1, hi);
+        if (c + seg.length >= n)
+          return x + 1 + seg[(int) (n - c) - 1];
+        c += seg.length;
+        x = hi;
+      }
+    }
+  } /* nthPrime */
+
+  /**
+   * The logarithmic integral.
+   * Ramanujan's series, li(x) = gamma + log(log(x)) + sqrt(x) sum_n (-1)^(n-1) log^n(x)/(n! 2^(n-1))
+   * sum_(k=0..floor((n-1)/2)) 1/(2k+1).
+   *
+   * @param x The argument, larger than 1.
+   * @return li(x).
+   * @since 2026-10-19
+   */
+  static private double li(final double x) {
+    final double lnx = Math.log(x);
+    double sum = 0.0;
+    double inner = 0.0;
+    double fac = 1.0;
+    for (int n = 1; n < 200; n++) {
+      fac *= lnx / (n * (n > 1 ? 2.0 : 1.0));
+      if ((n - 1) % 2 == 0)
+        inner += 1.0 / n;
+      final double term = ((n % 2 == 1) ? fac : -fac) * inner;
+      sum += term;
+      if (Math.abs(term) < 1e-17 * Math.abs(sum))
+        break;
+    }
+    return 0.5772156649015329 + Math.log(lnx) + Math.sqrt(x) * sum;
+  } /* li */
+
+  /**
+   * The primes in an interval by a segmented sieve.
+   *
+   * @param lo The lower limit, at least 2.
+   * @param hi The upper limit, at most lo+2^31-2.
+   * @return The primes p with lo<=p<=hi, as the offsets p-lo in ascending order.
+   * @since 2026-10-19
+   */
+  static private int[] segment(final long lo, final long hi) {
+    if (hi < lo)
+      return new int[0];
+    final int len = (int) (hi - lo + 1);
+    BitSet comp = new BitSet(len);
+    for (int p : sieve((int) BigIntegerMath.isqrt(hi))) {
+                        /* the first multiple of p in the interval, not below p^2 */
+      long m = Math.max((long) p * p, (lo + p - 1) / p * p);
+      for (; m <= hi; m += p)
+        comp.set((int) (m - lo));
+    }
+    int[] pr = new int[len - comp.cardinality()];
+    int k = 0;
+    for (int i = comp.nextClearBit(0); i < len; i = comp.nextClearBit(i + 1))
+      pr[k++] = i;
+    return pr;
+  } /* segment */
+
   /**
    * return the smallest prime larger than n
    *
@@ -246,27 +684,41 @@ public class Prime {
    * @author Richard J. Mathar
    */
   protected void growto(BigInteger n) {
-    while (nMax.compareTo(n) == -1) {
-      nMax = nMax.add(BigInteger.ONE);
-      boolean isp = true;
-      for (int p = 0; p < a.size(); p++) {
+                /* The list is shared by all threads; the lock keeps the entries in order.
+                */
+    synchronized (a) {
+                        /* large extensions in the int range with the segmented sieve */
+      if (n.compareTo(nMax.add(BigInteger.valueOf(1000L))) > 0 && n.bitLength() < 32) {
+        final long hi = n.longValue();
+        for (long lo = nMax.longValue() + 1; lo <= hi; lo += SEGMENT) {
+          final long up = Math.min(hi, lo + SEGMENT - 1);
+          for (int off : segment(lo, up))
+            a.add(BigInteger.valueOf(lo + off));
+          nMax = BigInteger.valueOf(up);
+        }
+      }
+      while (nMax.compareTo(n) == -1) {
+        nMax = nMax.add(BigInteger.ONE);
+        boolean isp = true;
+        for (int p = 0; p < a.size(); p++) {
                                 /*
                                 * Test the list of known primes only up to sqrt(n)
                                 */
-        if (a.get(p).multiply(a.get(p)).compareTo(nMax) == 1)
-          break;
+          if (a.get(p).multiply(a.get(p)).compareTo(nMax) == 1)
+            break;
 
                                 /*
                                 * The next case means that the p'th number in the list of known primes divides
                                 * nMax and nMax cannot be a prime.
                                 */
-        if (nMax.remainder(a.get(p)).compareTo(BigInteger.ZERO) == 0) {
-          isp = false;
-          break;
+          if (nMax.remainder(a.get(p)).compareTo(BigInteger.ZERO) == 0) {
+            isp = false;
+            break;
+          }
         }
+        if (isp)
+          a.add(nMax);
       }
-      if (isp)
-        a.add(nMax);
     }
   }
 
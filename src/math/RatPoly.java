@@ -385,6 +385,23 @@ class RatPoly {
    */
   public RatPoly multiply(final RatPoly val) {
     RatPoly resul = new RatPoly();
+    if (a.size() == 0 || val.a.size() == 0)
+      return resul;
+    if (Math.min(a.size(), val.a.size()) >= BigIntegerPoly.KARATSUBA_THRESHOLD) {
+                        /* clear the denominators with the lcm of each factor, multiply the integer
+                        * polynomials, and divide the product through the two lcm's.
+                        */
+      final Rational[] x = a.toArray(new Rational[0]);
+      final Rational[] y = val.a.toArray(new Rational[0]);
+      final BigInteger lx = Rational.lcmDenom(x);
+      final BigInteger ly = Rational.lcmDenom(y);
+      final BigInteger[] c = BigIntegerPoly.multiply(clearDenom(x, lx), clearDenom(y, ly));
+      final BigInteger l = lx.multiply(ly);
+      for (int n = 0; n < c.length; n++)
+        resul.a.add(new Rational(c[n], l));
+      resul.simplify();
+      return resul;
+    }
                 /* the degree of the result is the sum of the two degrees.
                 */
     final int nmax = degree() + val.degree();
@@ -399,8 +416,24 @@ class RatPoly {
     return resul;
   } /* multiply */
 
+  /**
+   * Multiply coefficients by a common multiple of their denominators.
+   *
+   * @param x the rational coefficients.
+   * @param l a common multiple of all denominators in x.
+   * @return the integers x[i]*l.
+   * @since 2026-10-19
+   */
+  static private BigInteger[] clearDenom(final Rational[] x, final BigInteger l) {
+    final BigInteger[] c = new BigInteger[x.length];
+    for (int i = 0; i < x.length; i++)
+      c[i] = x[i].numer().multiply(l.divide(x[i].denom()));
+    return c;
+  } /* clearDenom */
+
   /**
    * Raise to a positive power.
+   * Uses repeated squaring along the binary representation of the exponent.
    *
    * @param n The non-negative exponent of the power
    * @return The n-th power of this.
@@ -411,11 +444,13 @@ class RatPoly {
     if (n < 0)
       throw new ArithmeticException("negative polynomial power " + n);
     else {
-                        /* this ought probably be done with some binary representation
-                        * of the power and a smaller number of multiplications.
-                        */
-      for (int i = 1; i <= n; i++)
-        resul = resul.multiply(this);
+      RatPoly sq = this;
+      for (int e = n; e > 0; e >>= 1) {
+        if ((e & 1) != 0)
+          resul = resul.multiply(sq);
+        if (e > 1)
+          sq = sq.multiply(sq);
+      }
       resul.simplify();
       return resul;
     }
@@ -643,7 +678,7 @@ class RatPoly {
   public String toPString() {
     String str = new String();
     for (int n = 0; n < a.size(); n++) {
-      final BigInteger num = a.elementAt(n).a;
+      final BigInteger num = a.elementAt(n).numer();
       if (num.compareTo(BigInteger.ZERO) != 0) {
         str += " ";
         if (num.compareTo(BigInteger.ZERO) > 0)
@@ -927,15 +962,15 @@ class RatPoly {
                 /* multiply all coefs with the lcm() to get an integer polynomial
                 * start with denominator of first non-zero coefficient.
                 */
-    BigInteger lcmDeno = a.elementAt(lowd).b;
+    BigInteger lcmDeno = a.elementAt(lowd).denom();
     for (int i = lowd + 1; i < degree(); i++)
-      lcmDeno = BigIntegerMath.lcm(lcmDeno, a.elementAt(i).b);
+      lcmDeno = BigIntegerMath.lcm(lcmDeno, a.elementAt(i).denom());
 
                 /* and eventually get the integer polynomial by ignoring the denominators
                 */
     Vector<BigInteger> ipo = new Vector<BigInteger>();
     for (int i = 0; i < a.size(); i++) {
-      BigInteger d = a.elementAt(i).a.multiply(lcmDeno).divide(a.elementAt(i).b);
+      BigInteger d = a.elementAt(i).numer().multiply(lcmDeno).divide(a.elementAt(i).denom());
       ipo.add(d);
     }
 
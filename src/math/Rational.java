@@ -10,21 +10,41 @@ import java.util.Vector;
  * Fractions (rational numbers).
  * They are ratios of two BigInteger numbers, reduced to coprime
  * numerator and denominator.
+ * Values with numerator and denominator in the range of standard longs are held as two longs,
+ * and the arithmetic on two of these does not allocate BigIntegers unless the result overflows.
  *
  * @author Richard J. Mathar
  * @since 2006-06-25
  */
 public class Rational implements Cloneable, Comparable<Rational> {
   /**
-   * numerator
+   * numerator.
+   * This is null if the value is held in the long fields and was not yet requested by numer().
    */
   BigInteger a;
 
   /**
    * denominator, always larger than zero.
+   * This is null if the value is held in the long fields and was not yet requested by denom().
    */
   BigInteger b;
 
+  /**
+   * True if the numerator and denominator are also available as longs in la and lb.
+   *
+   * @since 2026-10-19
+   */
+  boolean small;
+
+  /**
+   * numerator and denominator if small is true.
+   * Both are in the range -Long.MAX_VALUE to Long.MAX_VALUE, so negation does not overflow.
+   *
+   * @since 2026-10-19
+   */
+  long la;
+  long lb;
+
   /**
    * The maximum and minimum value of a standard Java integer, 2^31.
    *
@@ -50,6 +70,31 @@ public class Rational implements Cloneable, Comparable<Rational> {
    */
   static public Rational HALF = new Rational(1, 2);
 
+  /**
+   * The largest integer and the largest denominator of unit fractions which are
+   * shared by valueOf().
+   *
+   * @since 2026-10-19
+   */
+  static private final int CACHE_MAX = 256;
+
+  /**
+   * The integers -CACHE_MAX to CACHE_MAX at index offset CACHE_MAX.
+   */
+  static private final Rational[] INT_CACHE = new Rational[2 * CACHE_MAX + 1];
+
+  /**
+   * The unit fractions 1/n for n up to CACHE_MAX at index n.
+   */
+  static private final Rational[] UNIT_CACHE = new Rational[CACHE_MAX + 1];
+
+  static {
+    for (int n = -CACHE_MAX; n <= CACHE_MAX; n++)
+      INT_CACHE[n + CACHE_MAX] = new Rational((long) n, 1L);
+    for (int n = 1; n <= CACHE_MAX; n++)
+      UNIT_CACHE[n] = new Rational(1L, (long) n);
+  }
+
   /**
    * Default ctor, which represents the zero.
    *
@@ -59,6 +104,28 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public Rational() {
     a = BigInteger.ZERO;
     b = BigInteger.ONE;
+    small = true;
+    la = 0;
+    lb = 1;
+  } /* ctor */
+
+  /**
+   * ctor from a numerator and denominator.
+   *
+   * @param a the numerator.
+   * @param b the denominator.
+   * @since 2026-10-19
+   */
+  public Rational(long a, long b) {
+    if (a == Long.MIN_VALUE || b == Long.MIN_VALUE || b == 0) {
+                        /* outside the range of the long representation, or the undefined 1/0 which
+                        * is kept as in the BigInteger ctor
+                        */
+      this.a = BigInteger.valueOf(a);
+      this.b = BigInteger.valueOf(b);
+      normalize();
+    } else
+      setLong(a, b);
   } /* ctor */
 
   /**
@@ -82,7 +149,12 @@ public class Rational implements Cloneable, Comparable<Rational> {
    */
   public Rational(BigInteger a) {
     this.a = a;
-    b = new BigInteger("1");
+    b = BigInteger.ONE;
+    if (fitsLong(a)) {
+      small = true;
+      la = a.longValue();
+      lb = 1;
+    }
   } /* ctor */
 
   /**
@@ -93,7 +165,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational(int a, int b) {
-    this(new BigInteger("" + a), new BigInteger("" + b));
+    this((long) a, (long) b);
   } /* ctor */
 
   /**
@@ -104,7 +176,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2010-07-18
    */
   public Rational(int n) {
-    this(n, 1);
+    this((long) n, 1L);
   } /* ctor */
 
   /**
@@ -134,8 +206,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
     int hasslah = str.indexOf("/");
     if (hasslah == -1) {
       a = new BigInteger(str, radix);
-      b = new BigInteger("1", radix);
-                        /* no normalization necessary here */
+      b = BigInteger.ONE;
+                        /* no normalization necessary here, just the check for the long representation */
+      normalize();
     } else {
                         /* create numerator and denominator separately
                         */
@@ -160,6 +233,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
     else if (cfr.size() == 1) {
       this.a = cfr.firstElement();
       this.b = BigInteger.ONE;
+      normalize();
     } else {
                         /* recursive this = cfr[0]+1/(cfr[1]+...) where cfr[1]+... = rec =rec.a/rec.b
                         * this = cfr[0]+rec.b/rec.a = (cfr[0]*rec.a+rec.b)/rec.a .
@@ -169,8 +243,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
       for (int i = 1; i < cfr.size(); i++)
         clond.add(cfr.elementAt(i));
       Rational rec = new Rational(clond);
-      this.a = cfr.firstElement().multiply(rec.a).add(rec.b);
-      this.b = rec.a;
+      this.a = cfr.firstElement().multiply(rec.numer()).add(rec.denom());
+      this.b = rec.numer();
       normalize();
     }
   } /* ctor */
@@ -184,12 +258,51 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public Rational clone() {
                 /* protected access means this does not work
                 * return new Rational(a.clone(), b.clone()) ;
+                * BigIntegers are immutable, so sharing them is sufficient.
                 */
-    BigInteger aclon = new BigInteger("" + a);
-    BigInteger bclon = new BigInteger("" + b);
-    return new Rational(aclon, bclon);
+    if (small)
+      return new Rational(la, lb);
+    else
+      return new Rational(a, b);
   } /* Rational.clone */
 
+  /**
+   * A rational number with the given value, shared for small integers and unit fractions.
+   *
+   * @param n the integer to be represented.
+   * @return the value n.
+   * @since 2026-10-19
+   */
+  static public Rational valueOf(long n) {
+    if (n >= -CACHE_MAX && n <= CACHE_MAX)
+      return INT_CACHE[(int) n + CACHE_MAX];
+    else
+      return new Rational(n, 1L);
+  } /* Rational.valueOf */
+
+  /**
+   * A rational number with the given value, shared for small integers and unit fractions.
+   *
+   * @param a the numerator.
+   * @param b the denominator.
+   * @return the value a/b.
+   * @since 2026-10-19
+   */
+  static public Rational valueOf(long a, long b) {
+    if (b == 1)
+      return valueOf(a);
+    else if (a == 1 && b > 0 && b <= CACHE_MAX)
+      return UNIT_CACHE[(int) b];
+    else {
+      final Rational r = new Rational(a, b);
+      if (r.small && r.lb == 1)
+        return valueOf(r.la);
+      else if (r.small && r.la == 1 && r.lb <= CACHE_MAX)
+        return UNIT_CACHE[(int) r.lb];
+      return r;
+    }
+  } /* Rational.valueOf */
+
   /**
    * Multiply by another fraction.
    *
@@ -198,8 +311,21 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational multiply(final Rational val) {
-    BigInteger num = a.multiply(val.a);
-    BigInteger deno = b.multiply(val.b);
+    if (small && val.small) {
+                        /* cancel common factors crosswise before multiplying, which
+                        * leaves the result coprime and delays the overflow.
+                        */
+      final long g1 = gcd(la, val.lb);
+      final long g2 = gcd(val.la, lb);
+      final long x = la / g1;
+      final long y = val.la / g2;
+      final long u = lb / g2;
+      final long v = val.lb / g1;
+      if (bits(x) + bits(y) < 63 && bits(u) + bits(v) < 63)
+        return new Rational(x * y, u * v);
+    }
+    BigInteger num = numer().multiply(val.numer());
+    BigInteger deno = denom().multiply(val.denom());
                 /* Normalization to an coprime format will be done inside
                 * the ctor() and is not duplicated here.
                 */
@@ -214,7 +340,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational multiply(final BigInteger val) {
-    Rational val2 = new Rational(val, BigInteger.ONE);
+    Rational val2 = new Rational(val);
     return (multiply(val2));
   } /* Rational.multiply */
 
@@ -226,8 +352,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational multiply(final int val) {
-    BigInteger tmp = new BigInteger("" + val);
-    return multiply(tmp);
+    return multiply(valueOf(val));
   } /* Rational.multiply */
 
   /**
@@ -240,10 +365,10 @@ public class Rational implements Cloneable, Comparable<Rational> {
    */
   public Rational pow(int exponent) {
     if (exponent == 0)
-      return new Rational(1, 1);
+      return ONE;
 
-    BigInteger num = a.pow(Math.abs(exponent));
-    BigInteger deno = b.pow(Math.abs(exponent));
+    BigInteger num = numer().pow(Math.abs(exponent));
+    BigInteger deno = denom().pow(Math.abs(exponent));
     if (exponent > 0)
       return (new Rational(num, deno));
     else
@@ -297,8 +422,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
 
                 /* delegate the main work to ifactor#root()
                 */
-    IFactor num = new IFactor(a.abs());
-    IFactor deno = new IFactor(b);
+    IFactor num = new IFactor(numer().abs());
+    IFactor deno = new IFactor(denom());
     final Rational resul = num.root(rthroot).divide(deno.root(rthroot));
     if (flipsign)
       return resul.negate();
@@ -316,14 +441,14 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2009-05-18
    */
   public Rational pow(Rational exponent) throws NumberFormatException {
-    if (exponent.a.compareTo(BigInteger.ZERO) == 0)
-      return new Rational(1, 1);
+    if (exponent.signum() == 0)
+      return ONE;
 
                 /* calculate (a/b)^(exponent.a/exponent.b) as ((a/b)^exponent.a)^(1/exponent.b)
                 * = tmp^(1/exponent.b)
                 */
-    Rational tmp = pow(exponent.a);
-    return tmp.root(exponent.b);
+    Rational tmp = pow(exponent.numer());
+    return tmp.root(exponent.denom());
   } /* Rational.pow */
 
   /**
@@ -334,10 +459,20 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational divide(final Rational val) {
-    if (val.compareTo(Rational.ZERO) == 0)
+    if (val.signum() == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
-    BigInteger num = a.multiply(val.b);
-    BigInteger deno = b.multiply(val.a);
+    if (small && val.small) {
+      final long g1 = gcd(la, val.la);
+      final long g2 = gcd(val.lb, lb);
+      final long x = la / g1;
+      final long y = val.lb / g2;
+      final long u = lb / g2;
+      final long v = val.la / g1;
+      if (bits(x) + bits(y) < 63 && bits(u) + bits(v) < 63)
+        return new Rational(x * y, u * v);
+    }
+    BigInteger num = numer().multiply(val.denom());
+    BigInteger deno = denom().multiply(val.numer());
                 /* Reduction to a coprime format is done inside the ctor,
                 * and not repeated here.
                 */
@@ -352,9 +487,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational divide(BigInteger val) {
-    if (val.compareTo(BigInteger.ZERO) == 0)
+    if (val.signum() == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
-    Rational val2 = new Rational(val, BigInteger.ONE);
+    Rational val2 = new Rational(val);
     return (divide(val2));
   } /* Rational.divide */
 
@@ -368,8 +503,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public Rational divide(int val) {
     if (val == 0)
       throw new ArithmeticException("Dividing " + toString() + " through zero.");
-    Rational val2 = new Rational(val, 1);
-    return (divide(val2));
+    return (divide(valueOf(val)));
   } /* Rational.divide */
 
   /**
@@ -380,8 +514,18 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational add(Rational val) {
-    BigInteger num = a.multiply(val.b).add(b.multiply(val.a));
-    BigInteger deno = b.multiply(val.b);
+    if (small && val.small) {
+                        /* a/b+c/d = (a*(d/g)+c*(b/g))/(b*(d/g)) with g=gcd(b,d) keeps the intermediate
+                        * products small if the denominators share factors.
+                        */
+      final long g = gcd(lb, val.lb);
+      final long bg = lb / g;
+      final long dg = val.lb / g;
+      if (bits(la) + bits(dg) < 62 && bits(val.la) + bits(bg) < 62 && bits(lb) + bits(dg) < 63)
+        return new Rational(la * dg + val.la * bg, lb * dg);
+    }
+    BigInteger num = numer().multiply(val.denom()).add(denom().multiply(val.numer()));
+    BigInteger deno = denom().multiply(val.denom());
     return (new Rational(num, deno));
   } /* Rational.add */
 
@@ -393,7 +537,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational add(BigInteger val) {
-    Rational val2 = new Rational(val, BigInteger.ONE);
+    Rational val2 = new Rational(val);
     return (add(val2));
   } /* Rational.add */
 
@@ -406,8 +550,10 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since May 26 2010
    */
   public Rational add(int val) {
-    BigInteger val2 = a.add(b.multiply(new BigInteger("" + val)));
-    return new Rational(val2, b);
+    if (small && bits(lb) + bits(val) < 62 && bits(la) < 62)
+      return new Rational(la + lb * val, lb);
+    BigInteger val2 = numer().add(denom().multiply(BigInteger.valueOf(val)));
+    return new Rational(val2, denom());
   } /* Rational.add */
 
   /**
@@ -417,6 +563,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational negate() {
+    if (small)
+      return new Rational(-la, lb);
     return (new Rational(a.negate(), b));
   } /* Rational.negate */
 
@@ -440,7 +588,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational subtract(BigInteger val) {
-    Rational val2 = new Rational(val, BigInteger.ONE);
+    Rational val2 = new Rational(val);
     return (subtract(val2));
   } /* Rational.subtract */
 
@@ -452,8 +600,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational subtract(int val) {
-    Rational val2 = new Rational(val, 1);
-    return (subtract(val2));
+    return (subtract(valueOf(val)));
   } /* Rational.subtract */
 
   /**
@@ -521,6 +668,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public BigInteger numer() {
+    if (a == null)
+      a = BigInteger.valueOf(la);
     return a;
   }
 
@@ -531,6 +680,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public BigInteger denom() {
+    if (b == null)
+      b = BigInteger.valueOf(lb);
     return b;
   }
 
@@ -541,6 +692,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public Rational abs() {
+    if (small)
+      return (la >= 0) ? this : new Rational(-la, lb);
     return (new Rational(a.abs(), b.abs()));
   }
 
@@ -553,7 +706,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public BigInteger floor() {
                 /* is already integer: return the numerator
                 */
-    if (b.compareTo(BigInteger.ONE) == 0)
+    if (small)
+      return BigInteger.valueOf(Math.floorDiv(la, lb));
+    else if (b.compareTo(BigInteger.ONE) == 0)
       return a;
     else if (a.compareTo(BigInteger.ZERO) > 0)
       return a.divide(b);
@@ -571,7 +726,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public BigInteger ceil() {
                 /* is already integer: return the numerator
                 */
-    if (b.compareTo(BigInteger.ONE) == 0)
+    if (small)
+      return BigInteger.valueOf(-Math.floorDiv(-la, lb));
+    else if (b.compareTo(BigInteger.ONE) == 0)
       return a;
     else if (a.compareTo(BigInteger.ZERO) > 0)
       return a.divide(b).add(BigInteger.ONE);
@@ -588,7 +745,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public BigInteger trunc() {
                 /* is already integer: return the numerator
                 */
-    if (b.compareTo(BigInteger.ONE) == 0)
+    if (small)
+      return BigInteger.valueOf(la / lb);
+    else if (b.compareTo(BigInteger.ONE) == 0)
       return a;
     else
       return a.divide(b);
@@ -606,8 +765,14 @@ public class Rational implements Cloneable, Comparable<Rational> {
                 /* Since we have always kept the denominators positive,
                 * simple cross-multiplying works without changing the sign.
                 */
-    final BigInteger left = a.multiply(val.b);
-    final BigInteger right = val.a.multiply(b);
+    if (small && val.small) {
+      if (lb == val.lb)
+        return Long.compare(la, val.la);
+      else if (bits(la) + bits(val.lb) < 63 && bits(val.la) + bits(lb) < 63)
+        return Long.compare(la * val.lb, val.la * lb);
+    }
+    final BigInteger left = numer().multiply(val.denom());
+    final BigInteger right = val.numer().multiply(denom());
     return left.compareTo(right);
   } /* Rational.compareTo */
 
@@ -620,7 +785,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public int compareTo(final BigInteger val) {
-    final Rational val2 = new Rational(val, BigInteger.ONE);
+    final Rational val2 = new Rational(val);
     return (compareTo(val2));
   } /* Rational.compareTo */
 
@@ -632,7 +797,9 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @author Richard J. Mathar
    */
   public String toString() {
-    if (b.compareTo(BigInteger.ONE) != 0)
+    if (small)
+      return (lb != 1) ? (la + "/" + lb) : Long.toString(la);
+    else if (b.compareTo(BigInteger.ONE) != 0)
       return (a.toString() + "/" + b.toString());
     else
       return a.toString();
@@ -650,7 +817,11 @@ public class Rational implements Cloneable, Comparable<Rational> {
                 * a separate invocation a.doubleValue() or b.doubleValue(), we divide first
                 * in a BigDecimal environment and convert the result.
                 */
-    BigDecimal adivb = (new BigDecimal(a)).divide(new BigDecimal(b), MathContext.DECIMAL128);
+                /* Numerator and denominator exactly representable: the double division rounds correctly.
+                */
+    if (small && bits(la) <= 53 && bits(lb) <= 53)
+      return (double) la / (double) lb;
+    BigDecimal adivb = (new BigDecimal(numer())).divide(new BigDecimal(denom()), MathContext.DECIMAL128);
     return adivb.doubleValue();
   } /* Rational.doubleValue */
 
@@ -662,7 +833,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2009-08-06
    */
   public float floatValue() {
-    BigDecimal adivb = (new BigDecimal(a)).divide(new BigDecimal(b), MathContext.DECIMAL128);
+    BigDecimal adivb = (new BigDecimal(numer())).divide(new BigDecimal(denom()), MathContext.DECIMAL128);
     return adivb.floatValue();
   } /* Rational.floatValue */
 
@@ -677,8 +848,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public BigDecimal BigDecimalValue(MathContext mc) {
                 /* numerator and denominator individually rephrased
                 */
-    BigDecimal n = new BigDecimal(a);
-    BigDecimal d = new BigDecimal(b);
+    BigDecimal n = new BigDecimal(numer());
+    BigDecimal d = new BigDecimal(denom());
                 /* the problem with n.divide(d,mc) is that the apparent precision might be
                 * smaller than what is set by mc if the value has a precise truncated representation.
                 * 1/4 will appear as 0.25, independent of mc
@@ -695,12 +866,12 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2008-10-25
    */
   public String toFString(int digits) {
-    if (b.compareTo(BigInteger.ONE) != 0) {
+    if (denom().compareTo(BigInteger.ONE) != 0) {
       MathContext mc = new MathContext(digits, RoundingMode.DOWN);
-      BigDecimal f = (new BigDecimal(a)).divide(new BigDecimal(b), mc);
+      BigDecimal f = (new BigDecimal(numer())).divide(new BigDecimal(denom()), mc);
       return (f.toString());
     } else
-      return a.toString();
+      return numer().toString();
   } /* Rational.toFString */
 
   /**
@@ -749,7 +920,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
     else {
                         /* initialize results with the current value
                         */
-      Rational res = new Rational(a, b);
+      Rational res = this;
       BigInteger i = BigInteger.ONE;
       for (; i.compareTo(n) < 0; i = i.add(BigInteger.ONE))
         res = res.multiply(add(i));
@@ -778,6 +949,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2010-05-26
    */
   public boolean isBigInteger() {
+    if (small)
+      return (lb == 1);
     return (b.abs().compareTo(BigInteger.ONE) == 0);
   } /* Rational.isBigInteger */
 
@@ -792,6 +965,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
   public boolean isInteger() {
     if (!isBigInteger())
       return false;
+    if (small)
+      return (la <= Integer.MAX_VALUE && la >= Integer.MIN_VALUE);
     return (a.compareTo(MAX_INT) <= 0 && a.compareTo(MIN_INT) >= 0);
   } /* Rational.isInteger */
 
@@ -805,7 +980,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
   int intValue() {
     if (!isInteger())
       throw new NumberFormatException("cannot convert " + toString() + " to integer.");
-    return a.intValue();
+    return (small) ? (int) la : a.intValue();
   }
 
   /**
@@ -817,7 +992,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
   BigInteger BigIntegerValue() {
     if (!isBigInteger())
       throw new NumberFormatException("cannot convert " + toString() + " to BigInteger.");
-    return a;
+    return numer();
   }
 
   /**
@@ -827,6 +1002,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2010-05-26
    */
   public boolean isIntegerFrac() {
+    if (small)
+      return (la <= Integer.MAX_VALUE && la >= Integer.MIN_VALUE && lb <= Integer.MAX_VALUE);
     return (a.compareTo(MAX_INT) <= 0 && a.compareTo(MIN_INT) >= 0
       && b.compareTo(MAX_INT) <= 0 && b.compareTo(MIN_INT) >= 0);
   } /* Rational.isIntegerFrac */
@@ -839,6 +1016,8 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2010-05-26
    */
   public int signum() {
+    if (small)
+      return Long.signum(la);
     return (b.signum() * a.signum());
   } /* Rational.signum */
 
@@ -855,12 +1034,12 @@ public class Rational implements Cloneable, Comparable<Rational> {
       throw new NumberFormatException("Unsupported cfrac for negative " + this);
     Vector<BigInteger> cf = new Vector<BigInteger>();
     if (signum() != 0) {
-      BigInteger[] nRem = a.divideAndRemainder(b);
+      BigInteger[] nRem = numer().divideAndRemainder(denom());
       cf.add(nRem[0]);
                         /* recursive call : this = nRem[0]+nRem[1]/b = nRem[0] + 1/(b/nRem[1])
                         */
       if (nRem[1].signum() != 0)
-        cf.addAll((new Rational(b, nRem[1])).cfrac());
+        cf.addAll((new Rational(denom(), nRem[1])).cfrac());
     }
     return cf;
   } /* Rational.cfrac */
@@ -876,7 +1055,7 @@ public class Rational implements Cloneable, Comparable<Rational> {
   static public BigInteger lcmDenom(final Rational[] vals) {
     BigInteger l = BigInteger.ONE;
     for (int v = 0; v < vals.length; v++)
-      l = BigIntegerMath.lcm(l, vals[v].b);
+      l = BigIntegerMath.lcm(l, vals[v].denom());
     return l;
   } /* Rational.lcmDenom */
 
@@ -895,15 +1074,13 @@ public class Rational implements Cloneable, Comparable<Rational> {
     if (n < 1)
       return (new Rational(0, 1));
     else {
-                        /* start with 1 as the result
-                        */
-      Rational a = new Rational(1, 1);
-
-                        /* add 1/i for i=2..n
+                        /* start with 1 as the result, and add 1/i for i=2..n over the common denominator
                         */
+      RationalAccumulator a = new RationalAccumulator();
+      a.add(BigInteger.ONE);
       for (int i = 2; i <= n; i++)
-        a = a.add(new Rational(1, i));
-      return a;
+        a.add(valueOf(1, i));
+      return a.toRational();
     }
   } /* harmonic */
 
@@ -915,6 +1092,11 @@ public class Rational implements Cloneable, Comparable<Rational> {
    * @since 2008-10-19
    */
   protected void normalize() {
+    if (fitsLong(a) && fitsLong(b) && b.signum() != 0) {
+      setLong(a.longValue(), b.longValue());
+      return;
+    }
+    small = false;
                 /* compute greatest common divisor of numerator and denominator
                 */
     final BigInteger g = a.gcd(b);
@@ -925,6 +1107,89 @@ public class Rational implements Cloneable, Comparable<Rational> {
     if (b.compareTo(BigInteger.ZERO) == -1) {
       a = a.negate();
       b = b.negate();
+    }
+                /* the reduction may have brought the value into the range of longs */
+    if (fitsLong(a) && fitsLong(b) && b.signum() != 0) {
+      small = true;
+      la = a.longValue();
+      lb = b.longValue();
     }
   } /* Rational.normalize */
+
+  /**
+   * Set the value from a numerator and denominator in the long representation.
+   * Normalizes to coprime values and a positive denominator.
+   *
+   * @param num the numerator, not equal to Long.MIN_VALUE.
+   * @param den the denominator, nonzero and not equal to Long.MIN_VALUE.
+   * @since 2026-10-19
+   */
+  private void setLong(long num, long den) {
+    final long g = gcd(num, den);
+    if (g > 1) {
+      num /= g;
+      den /= g;
+    }
+    if (den < 0) {
+      num = -num;
+      den = -den;
+    }
+    la = num;
+    lb = den;
+    small = true;
+    a = null;
+    b = null;
+  } /* Rational.setLong */
+
+  /**
+   * Test whether the value is in the range -Long.MAX_VALUE..Long.MAX_VALUE of the long representation.
+   *
+   * @param x the value
+   * @return true if the representation as a long is exact and can be negated.
+   * @since 2026-10-19
+   */
+  static private boolean fitsLong(final BigInteger x) {
+    return x.bitLength() < 64 && x.longValue() != Long.MIN_VALUE;
+  } /* Rational.fitsLong */
+
+  /**
+   * The number of bits in the absolute value.
+   * The product of two longs with a sum of bit counts less than 63 does not overflow.
+   *
+   * @param x the value, not Long.MIN_VALUE.
+   * @return the bit length of |x|.
+   * @since 2026-10-19
+   */
+  static private int bits(final long x) {
+    return 64 - Long.numberOfLeadingZeros(Math.abs(x));
+  } /* Rational.bits */
+
+  /**
+   * Greatest common divisor of two longs with the binary Euclidean algorithm.
+   *
+   * @param x the first value, not Long.MIN_VALUE.
+   * @param y the second value, not Long.MIN_VALUE.
+   * @return gcd(|x|,|y|), which is |y| if x is zero.
+   * @since 2026-10-19
+   */
+  static private long gcd(long x, long y) {
+    x = Math.abs(x);
+    y = Math.abs(y);
+    if (x == 0)
+      return y;
+    else if (y == 0)
+      return x;
+    final int sh = Long.numberOfTrailingZeros(x | y);
+    x >>= Long.numberOfTrailingZeros(x);
+    while (y != 0) {
+      y >>= Long.numberOfTrailingZeros(y);
+      if (x > y) {
+        final long t = y;
+        y = x;
+        x = t;
+      }
+      y -= x;
+    }
+    return x << sh;
+  } /* Rational.gcd */
 } /* Rational */
@@ -0,0 +1,134 @@
+package math;
+
+import java.math.BigInteger;
+
+/**
+ * Sums of fractions.
+ * The sum is kept as a numerator over a common denominator, the least common multiple of the
+ * denominators of the terms added so far. Repeated calls of Rational.add() reduce the fraction
+ * with a gcd of the full numerator and denominator at each step; here the reduction to coprime
+ * numerator and denominator is done once, when the result is requested by toRational().
+ *
+ * @since 2026-10-19
+ */
+public class RationalAccumulator {
+  /**
+   * numerator of the sum
+   */
+  BigInteger a;
+
+  /**
+   * common denominator, always larger than zero.
+   */
+  BigInteger b;
+
+  /**
+   * Default ctor, which starts at zero.
+   *
+   * @since 2026-10-19
+   */
+  public RationalAccumulator() {
+    a = BigInteger.ZERO;
+    b = BigInteger.ONE;
+  } /* ctor */
+
+  /**
+   * Add a fraction.
+   *
+   * @param val The number to be added.
+   * @since 2026-10-19
+   */
+  public void add(final Rational val) {
+    addFrac(val.numer(), val.denom());
+  } /* RationalAccumulator.add */
+
+  /**
+   * Add an integer.
+   *
+   * @param val The number to be added.
+   * @since 2026-10-19
+   */
+  public void add(final BigInteger val) {
+    a = a.add(b.multiply(val));
+  } /* RationalAccumulator.add */
+
+  /**
+   * Subtract a fraction.
+   *
+   * @param val The number to be subtracted.
+   * @since 2026-10-19
+   */
+  public void subtract(final Rational val) {
+    addFrac(val.numer().negate(), val.denom());
+  } /* RationalAccumulator.subtract */
+
+  /**
+   * Subtract an integer.
+   *
+   * @param val The number to be subtracted.
+   * @since 2026-10-19
+   */
+  public void subtract(final BigInteger val) {
+    a = a.subtract(b.multiply(val));
+  } /* RationalAccumulator.subtract */
+
+  /**
+   * The sum accumulated so far.
+   *
+   * @return The sum reduced to coprime numerator and denominator.
+   * @since 2026-10-19
+   */
+  public Rational toRational() {
+    return new Rational(a, b);
+  } /* RationalAccumulator.toRational */
+
+  /**
+   * Add num/den to the sum.
+   * The common denominator becomes lcm(b,den) = b*den/g with g = gcd(b,den). If den is small,
+   * g is obtained from b mod den, which is linear in the size of b.
+   *
+   * @param num The numerator.
+   * @param den The denominator, positive.
+   * @since 2026-10-19
+   */
+  private void addFrac(final BigInteger num, final BigInteger den) {
+    final BigInteger g = (den.bitLength() < 63) ? b.mod(den).gcd(den) : b.gcd(den);
+    final BigInteger dg = den.divide(g);
+    if (dg.compareTo(BigInteger.ONE) == 0)
+      a = a.add(num.multiply(b.divide(den)));
+    else {
+      a = a.multiply(dg).add(num.multiply(b.divide(g)));
+      b = b.multiply(dg);
+    }
+  } /* RationalAccumulator.addFrac */
+
+  /**
+   * Test program.
+   * Prints the time to compute the harmonic numbers with the accumulator, and with a loop over Rational.add().
+   * The latter is skipped above 20000 terms, where it takes longer than minutes.
+   *
+   * @param args The optional list of the orders n, 1000, 10000 and 100000 by default.
+   * @since 2026-10-19
+   */
+  public static void main(String[] args) {
+    final String[] ns = (args.length > 0) ? args : new String[]{"1000", "10000", "100000"};
+    System.out.println("# n harmonic(n) [ms] Rational.add() loop [ms]");
+    for (String nstr : ns) {
+      final int n = Integer.parseInt(nstr);
+      long t0 = System.nanoTime();
+      final Rational h = Rational.harmonic(n);
+      final long tacc = (System.nanoTime() - t0) / 1000000L;
+      String tadd = "-";
+      if (n <= 20000) {
+        t0 = System.nanoTime();
+        Rational hadd = Rational.ZERO;
+        for (int i = 1; i <= n; i++)
+          hadd = hadd.add(new Rational(1, i));
+        tadd = "" + (System.nanoTime() - t0) / 1000000L;
+        if (hadd.compareTo(h) != 0)
+          throw new ArithmeticException("Mismatch of the harmonic numbers at " + n);
+      }
+      System.out.println(n + " " + tacc + " " + tadd);
+    }
+  } /* RationalAccumulator.main */
+} /* RationalAccumulator */
@@ -0,0 +1,268 @@
+package math;
+
+import java.util.TreeMap;
+
+/**
+ * Tables of multiplicative functions for all integers up to a limit.
+ * The linear sieve visits each composite n once, as the product of its smallest prime factor p
+ * and n/p, and derives the values at n from the values at n/p. The smallest prime factors,
+ * Euler's totient, the Moebius function and the number of distinct prime factors are built in one
+ * pass in O(N) time; the divisor sums are derived from the smallest prime factors on request.
+ * <p>
+ * One table is shared by the per-n methods of BigIntegerMath and IFactor, which look up their
+ * values there if the argument is in its range. It is built or enlarged by extend().
+ *
+ * @since 2026-10-19
+ */
+public class Sieve {
+  /**
+   * The largest integer covered by the tables.
+   */
+  final public int N;
+
+  /**
+   * The smallest prime factor, spf[n] for n=2..N. spf[0]=0 and spf[1]=1.
+   */
+  final private int[] spf;
+
+  /**
+   * Euler's totient, phi[n] for n=1..N.
+   */
+  final private int[] phi;
+
+  /**
+   * The Moebius function, mu[n] for n=1..N.
+   */
+  final private byte[] mu;
+
+  /**
+   * The number of distinct prime factors, omega[n] for n=1..N.
+   */
+  final private byte[] omega;
+
+  /**
+   * The tables of sigma_k that have been requested, indexed by k.
+   */
+  private TreeMap<Integer, long[]> sigmas = new TreeMap<Integer, long[]>();
+
+  /**
+   * The table shared by the per-n methods, null if none has been built.
+   */
+  static private volatile Sieve shared = null;
+
+  /**
+   * Ctor building the tables up to a limit.
+   *
+   * @param N The largest integer in the tables.
+   * @since 2026-10-19
+   */
+  public Sieve(final int N) {
+    if (N < 1 || N == Integer.MAX_VALUE)
+      throw new ArithmeticException("Invalid sieve limit " + N);
+    this.N = N;
+    spf = new int[N + 1];
+    phi = new int[N + 1];
+    mu = new byte[N + 1];
+    omega = new byte[N + 1];
+    spf[1] = 1;
+    phi[1] = 1;
+    mu[1] = 1;
+                /* the primes found so far. There are fewer than N/2+1 primes up to N */
+    int[] primes = new int[N / 2 + 1];
+    int np = 0;
+    for (int i = 2; i <= N; i++) {
+      if (spf[i] == 0) {
+        spf[i] = i;
+        phi[i] = i - 1;
+        mu[i] = -1;
+        omega[i] = 1;
+        primes[np++] = i;
+      }
+                        /* i*p for the primes p up to the smallest prime factor of i,
+                        * so p is the smallest prime factor of i*p
+                        */
+      for (int j = 0; j < np && primes[j] <= spf[i] && (long) i * primes[j] <= N; j++) {
+        final int p = primes[j];
+        final int ip = i * p;
+        spf[ip] = p;
+        if (p == spf[i]) {
+          phi[ip] = phi[i] * p;
+          mu[ip] = 0;
+          omega[ip] = omega[i];
+        } else {
+          phi[ip] = phi[i] * (p - 1);
+          mu[ip] = (byte) -mu[i];
+          omega[ip] = (byte) (omega[i] + 1);
+        }
+      }
+    }
+  } /* ctor */
+
+  /**
+   * The smallest prime factor.
+   *
+   * @param n The argument, 1 to N.
+   * @return The smallest prime factor of n, 1 if n=1.
+   * @since 2026-10-19
+   */
+  public int spf(final int n) {
+    return spf[n];
+  } /* spf */
+
+  /**
+   * Euler's totient.
+   *
+   * @param n The argument, 1 to N.
+   * @return phi(n).
+   * @since 2026-10-19
+   */
+  public int phi(final int n) {
+    return phi[n];
+  } /* phi */
+
+  /**
+   * The Moebius function.
+   *
+   * @param n The argument, 1 to N.
+   * @return mu(n).
+   * @since 2026-10-19
+   */
+  public int moebius(final int n) {
+    return mu[n];
+  } /* moebius */
+
+  /**
+   * The number of distinct prime factors.
+   *
+   * @param n The argument, 1 to N.
+   * @return omega(n).
+   * @since 2026-10-19
+   */
+  public int omega(final int n) {
+    return omega[n];
+  } /* omega */
+
+  /**
+   * The sum of the k-th powers of the divisors.
+   *
+   * @param k The power, non-negative.
+   * @param n The argument, 1 to N.
+   * @return sigma_k(n).
+   * @throws ArithmeticException if values of the table exceed the long range.
+   * @since 2026-10-19
+   */
+  public long sigma(final int k, final int n) {
+    return sigma(k)[n];
+  } /* sigma */
+
+  /**
+   * The sum of the k-th powers of the divisors, for all integers up to N.
+   * The table is computed at the first request and kept.
+   *
+   * @param k The power, non-negative.
+   * @return sigma_k(n) at index n=1..N.
+   * @throws ArithmeticException if values exceed the long range.
+   * @since 2026-10-19
+   */
+  synchronized private long[] sigma(final int k) {
+    long[] s = sigmas.get(k);
+    if (s == null) {
+      if (k < 0)
+        throw new ArithmeticException("Negative power " + k);
+      s = new long[N + 1];
+      s[1] = 1;
+      for (int n = 2; n <= N; n++) {
+                                /* n = p^e*m with m coprime to p: sigma_k(n) = sigma_k(m)*(1+p^k+...+p^(e*k)) */
+        final int p = spf[n];
+        final long pk = pow(p, k);
+        int m = n / p;
+        long term = 1;
+        long sum = 1;
+        for (; ; ) {
+          term = Math.multiplyExact(term, pk);
+          sum = Math.addExact(sum, term);
+          if (m % p != 0)
+            break;
+          m /= p;
+        }
+        s[n] = Math.multiplyExact(s[m], sum);
+      }
+      sigmas.put(k, s);
+    }
+    return s;
+  } /* sigma */
+
+  /**
+   * The number of prime factors with multiplicity.
+   *
+   * @param n The argument, 1 to N.
+   * @return bigomega(n), the number of steps down the chain of smallest prime factors.
+   * @since 2026-10-19
+   */
+  public int bigOmega(int n) {
+    int o = 0;
+    for (; n > 1; n /= spf[n])
+      o++;
+    return o;
+  } /* bigOmega */
+
+  /**
+   * Power of an integer with overflow check.
+   *
+   * @param p The base.
+   * @param k The non-negative exponent.
+   * @return p^k
+   * @since 2026-10-19
+   */
+  static private long pow(final long p, final int k) {
+    long r = 1;
+    for (int i = 0; i < k; i++)
+      r = Math.multiplyExact(r, p);
+    return r;
+  } /* pow */
+
+  /**
+   * Build or enlarge the table shared by the per-n methods.
+   *
+   * @param N The largest integer to be covered.
+   * @return The shared table, which covers at least 1 to N.
+   * @since 2026-10-19
+   */
+  static synchronized public Sieve extend(final int N) {
+    if (shared == null || shared.N < N)
+      shared = new Sieve(N);
+    return shared;
+  } /* extend */
+
+  /**
+   * The shared table if it covers an integer.
+   * This does not lock; a table replaced by extend() meanwhile remains valid.
+   *
+   * @param n The integer to be looked up.
+   * @return The shared table if 1<=n<=N, otherwise null.
+   * @since 2026-10-19
+   */
+  static Sieve lookup(final long n) {
+    final Sieve s = shared;
+    return (s != null && n >= 1 && n <= s.N) ? s : null;
+  } /* lookup */
+
+  /**
+   * Test program.
+   * Prints the time to build the tables and the sigma_1 table up to N.
+   *
+   * @param args The optional limit N, 10^7 by default.
+   * @since 2026-10-19
+   */
+  public static void main(String[] args) {
+    final int N = (args.length > 0) ? Integer.parseInt(args[0]) : 10000000;
+    long t0 = System.nanoTime();
+    Sieve s = new Sieve(N);
+    final long tsieve = (System.nanoTime() - t0) / 1000000L;
+    t0 = System.nanoTime();
+    final long sig = s.sigma(1, N);
+    final long tsig = (System.nanoTime() - t0) / 1000000L;
+    System.out.println("# N sieve [ms] sigma [ms] phi(N) mu(N) omega(N) sigma(N)");
+    System.out.println(N + " " + tsieve + " " + tsig + " " + s.phi(N) + " " + s.moebius(N) + " " + s.omega(N) + " " + sig);
+  } /* main */
+} /* Sieve */
@@ -1,7 +1,13 @@
 package math;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Scanner;
+import java.util.Vector;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 
 /**
@@ -97,15 +103,71 @@ public class Wigner3j {
    * @since 2011-02-13
    */
   static public BigSurd wigner3jm(int j1, int j2, int j3, int m1, int m2, int m3) {
+                /* cheap exits before the cache is consulted */
+    if (m1 + m2 + m3 != 0 || Math.abs(m1) > j1 || Math.abs(m2) > j2 || Math.abs(m3) > j3)
+      return BigSurd.ZERO;
+    final long key = cacheKey(j1, j2, j3, m1, m2, m3);
+    if (key >= 0) {
+      final BigSurd w = W3JM_CACHE.get(key);
+      if (w != null)
+        return w;
+    }
     Rational J1 = new Rational(j1, 2);
     Rational J2 = new Rational(j2, 2);
     Rational J3 = new Rational(j3, 2);
     Rational M1 = new Rational(m1, 2);
     Rational M2 = new Rational(m2, 2);
     Rational M3 = new Rational(m3, 2);
-    return wigner3jm(J1, J2, J3, M1, M2, M3);
+    final BigSurd w = wigner3jm(J1, J2, J3, M1, M2, M3);
+    if (key >= 0) {
+      if (W3JM_CACHE.size() >= W3JM_CACHE_MAX)
+        W3JM_CACHE.clear();
+      W3JM_CACHE.put(key, w);
+    }
+    return w;
   } /* wigner3jm */
 
+  /**
+   * The maximum number of 3jm values kept in the cache.
+   * The cache is emptied if it reaches this size.
+   *
+   * @since 2026-10-19
+   */
+  static private final int W3JM_CACHE_MAX = 1 << 20;
+
+  /**
+   * Cache of the 3jm values computed by wigner3jm() with integer (doubled) arguments.
+   *
+   * @since 2026-10-19
+   */
+  static private final ConcurrentHashMap<Long, BigSurd> W3JM_CACHE = new ConcurrentHashMap<Long, BigSurd>();
+
+  /**
+   * The key into the cache of 3jm values.
+   * The doubled j-values are packed into 10 bits each, the doubled m-values with an offset of 1024 into 11 bits each.
+   *
+   * @param j1 integer representing 2*j1
+   * @param j2 integer representing 2*j2
+   * @param j3 integer representing 2*j3
+   * @param m1 integer representing 2*m1
+   * @param m2 integer representing 2*m2
+   * @param m3 integer representing 2*m3
+   * @return the non-negative key, or -1 if the arguments are out of the range of the packing.
+   * @since 2026-10-19
+   */
+  static private long cacheKey(int j1, int j2, int j3, int m1, int m2, int m3) {
+    if (j1 < 0 || j2 < 0 || j3 < 0 || j1 >= 1024 || j2 >= 1024 || j3 >= 1024)
+      return -1;
+                /* |m_i| <= j_i < 1024 has been checked by the caller */
+    long k = j1;
+    k = (k << 10) | j2;
+    k = (k << 10) | j3;
+    k = (k << 11) | (m1 + 1024);
+    k = (k << 11) | (m2 + 1024);
+    k = (k << 11) | (m3 + 1024);
+    return k;
+  } /* cacheKey */
+
   /**
    * Wigner 3jn symbol.
    * For the 6j symbol, the input of the 3 lines is  "1 2 3 1 5 6", "4 5 3 4 2 6" "2j1+1 2j2+1 2j3+1 2l1+1 2l2+1 2l3+1"
@@ -118,6 +180,7 @@ public class Wigner3j {
    *           as announced by the m1 parameter are used; trailing numbers are ignored.
    *           A. Bar-Shalom and M. Klapisch, <a href="http://dx.doi.org/10.1016/0010-4655(88)90192-0">NJGRAF...</a>, Comp. Phys Comm. 50 (3) (1988) 375
    * @return The numerical value of the symbol.
+   * @throws CancellationException if the calling thread is interrupted during the summation.
    * @author Richard J. Mathar
    * @since 2012-02-15 Upgraded return value to BigSurdVec
    */
@@ -184,13 +247,12 @@ public class Wigner3j {
       jfreq[Math.abs(t) - 1]++;
     }
 
-                /* Move on from the 2j+1 values of the input to the j-values.
-                * Subtract one and divide through 2.
+                /* Move on from the 2j+1 values of the input to the doubled j-values.
+                * Subtract one.
                 */
-    Rational[] J = new Rational[jvec.length];
-    for (ji = 0; ji < jvec.length; ji++) {
-      J[ji] = new Rational(jvec[ji] - 1, 2);
-    }
+    int[] J = new int[jvec.length];
+    for (ji = 0; ji < jvec.length; ji++)
+      J[ji] = jvec[ji] - 1;
 
                 /* Convert the 1-based indices to 0-based indices, loosing the sign information.
                 */
@@ -198,56 +260,143 @@ public class Wigner3j {
     for (ti = 0; ti < tvec.length; ti++)
       triadidx[ti] = Math.abs(tvec[ti]) - 1;
 
-                /* The M-values are all null (undetermined) at the start.
+                /* The triangular conditions on the J. If at least one is violated, the result is zero.
+                * Ensure |J[t]-J[t+1]| <= J[t+2] <= J[t]+J[t+1] and that J[t]+J[t+1]+J[t+2] is integer.
                 */
-    Rational[] M = new Rational[J.length];
+    for (int t = 0; t < triadidx.length; t += 3) {
+      final int j1 = J[triadidx[t]];
+      final int j2 = J[triadidx[t + 1]];
+      final int j3 = J[triadidx[t + 2]];
+      if (Math.abs(j1 - j2) > j3 || j1 + j2 < j3 || (j1 + j2 + j3) % 2 != 0)
+        return new BigSurdVec();
+    }
 
-    return wigner3j(tvec, J, M, triadidx);
+                /* The triads of the 6j and 9j symbols of main() are summed by the Racah formula.
+                * The 9j symbol of these triads differs from the standard one by a sign (-1)^(j1+j2+...+j9).
+                */
+    if (Arrays.equals(tvec, TRIADS_6J))
+      return new BigSurdVec(wigner6j(J[0], J[1], J[2], J[3], J[4], J[5]));
+    else if (Arrays.equals(tvec, TRIADS_9J)) {
+      BigSurdVec w = wigner9j(J[0], J[1], J[2], J[3], J[4], J[5], J[6], J[7], J[8]);
+      int jsum = 0;
+      for (ji = 0; ji < J.length; ji++)
+        jsum += J[ji];
+      return ((jsum / 2) % 2 == 0) ? w : w.negate();
+    }
+
+                /* The M-values are all undetermined at the start.
+                */
+    int[] M = new int[J.length];
+    Arrays.fill(M, MUNSET);
+
+    return wigner3j(tvec, J, M, triadidx, 0, Thread.currentThread());
   } /* wigner3j */
 
+  /**
+   * The triads of the 6j symbol, as used by main().
+   *
+   * @since 2026-10-19
+   */
+  static private final int[] TRIADS_6J = {1, 2, -3, -1, 5, 6, 4, -5, 3, -4, -2, -6};
+
+  /**
+   * The triads of the 9j symbol, as used by main().
+   *
+   * @since 2026-10-19
+   */
+  static private final int[] TRIADS_9J = {1, 3, 2, 4, 6, 5, 7, 9, 8, 2, 8, 5, 6, 3, 9, 7, 4, 1};
+
+  /**
+   * Marker of a doubled m-value that has not yet been set by an outer loop.
+   *
+   * @since 2026-10-19
+   */
+  static private final int MUNSET = Integer.MIN_VALUE;
+
+  /**
+   * The number of nested m-loops, counted from the outermost one, which are split into
+   * ForkJoin tasks. Each task sums its own share of the m-values into a partial result.
+   *
+   * @since 2026-10-19
+   */
+  static private final int PARALLEL_DEPTH = 2;
+
+  /**
+   * Summation over one m-value of the 3jn symbol as a ForkJoin task.
+   *
+   * @since 2026-10-19
+   */
+  static private class MSumTask extends RecursiveTask<BigSurdVec> {
+    private static final long serialVersionUID = 1L;
+
+    final int[] tvec;
+    final int[] J;
+    final int[] M;
+    final int[] triadidx;
+    final int depth;
+    final Thread caller;
+
+    /**
+     * @param tvec     The signed 1-based indices of the triads.
+     * @param J        The list of doubled J-values.
+     * @param M        The list of doubled M-values, a private copy for this task.
+     * @param triadidx 0-based indices into the list of J.
+     * @param depth    The number of m-loops outside this task.
+     * @param caller   The thread which started the summation.
+     */
+    MSumTask(final int[] tvec, final int[] J, final int[] M, final int[] triadidx, final int depth,
+             final Thread caller) {
+      this.tvec = tvec;
+      this.J = J;
+      this.M = M;
+      this.triadidx = triadidx;
+      this.depth = depth;
+      this.caller = caller;
+    }
+
+    @Override
+    protected BigSurdVec compute() {
+      return wigner3j(tvec, J, M, triadidx, depth, caller);
+    }
+  } /* MSumTask */
+
   /**
    * Wigner 3jn symbol.
    * Computes sum_{mi} (-1)^(j1-m1+j2-m2+...) triad(triadidx[0..2])*triad(triadidx[3..5])*...
    * where each factor is a Wigner-3jm symbol with each sign of m_i occurring once at the
    * corresponding l-value.
    *
-   * @param tvec
-   * @param J        The list of J-values
-   * @param M        The list of M-values associated with the J. This contains null where the parameter has
-   *                 not yet been set by an outer loop.
+   * @param tvec     The signed 1-based indices of the triads. Negative values flag the second occurrence of a J.
+   * @param J        The list of J-values, multiplied by 2.
+   * @param M        The list of M-values associated with the J, multiplied by 2. This contains MUNSET where the
+   *                 parameter has not yet been set by an outer loop. It is modified during the call but
+   *                 restored on return.
    * @param triadidx 0-based indices into the list of J
+   * @param depth    The number of explicit m-loops outside this call.
+   * @param caller   The thread which started the summation. The summation is abandoned if it is interrupted,
+   *                 also if parts of the sum are computed in other threads.
    * @return The numerical value of the symbol.
+   * @throws CancellationException if the caller is interrupted.
    * @author Richard J. Mathar
    * @since 2012-02-15 Upgraded to return BigSurdVec
    */
-  static private BigSurdVec wigner3j(final int[] tvec, final Rational[] J, final Rational[] M, final int[] triadidx) {
-                /* The result of the computation. The sum over all m-combinations of the 
+  static private BigSurdVec wigner3j(final int[] tvec, final int[] J, final int[] M, final int[] triadidx,
+                                     final int depth, final Thread caller) {
+                /* The result of the computation. The sum over all m-combinations of the
                 * triads.
                 */
     BigSurdVec res = new BigSurdVec();
 
-                /* First step is to monitor the triangular conditions on the J.
-                * If at least one is violated, the result is zero. Loop over
-                * the triads.
-                */
-    for (int t = 0; t < triadidx.length; t += 3) {
-                        /* Ensure |J[t]-J[t+1]| <= J[t+2] <= J[t]+J[t+1] */
-      if (J[triadidx[t]].subtract(J[triadidx[t + 1]]).abs().compareTo(J[triadidx[t + 2]]) > 0)
-        return res;
-      if (J[triadidx[t]].add(J[triadidx[t + 1]]).compareTo(J[triadidx[t + 2]]) < 0)
-        return res;
-    }
-
                 /* the index of the preferred member of the triad list.
                 * Preference given to those dangling in triads where alreaday two others are fixed,
                 * then to members where at least one is fixed, then to smallest associated J-values.
                 */
     int freeM = -1;
-    int freeMrank = -1;
+    long freeMrank = -1;
     for (int i = 0; i < triadidx.length; i++) {
                         /* found an m-value which has not yet been summed over.
                         */
-      if (M[triadidx[i]] == null) {
+      if (M[triadidx[i]] == MUNSET) {
                                 /* two cases: value is fixed implicitly because already two others values
                                 * are set in the triad. or it is still to maintain its own explicit loop.
                                 */
@@ -260,18 +409,17 @@ public class Wigner3j {
 
                                 /* found a candidate for which the two other values are already set.
                                 */
-        if (M[triadidx[nei1]] != null && M[triadidx[nei2]] != null) {
+        if (M[triadidx[nei1]] != MUNSET && M[triadidx[nei2]] != MUNSET) {
           freeM = i;
           break;
         } else {
                                         /* rough work load estimator: basically (2J1+1)*(2J2+1)
                                         */
-          Rational wt = J[triadidx[i]].multiply(2).add(1);
-          if (M[triadidx[nei1]] == null)
-            wt = wt.multiply(J[triadidx[nei1]].multiply(2).add(1));
-          if (M[triadidx[nei2]] == null)
-            wt = wt.multiply(J[triadidx[nei2]].multiply(2).add(1));
-          int thiswt = wt.intValue();
+          long thiswt = J[triadidx[i]] + 1;
+          if (M[triadidx[nei1]] == MUNSET)
+            thiswt *= J[triadidx[nei1]] + 1;
+          if (M[triadidx[nei2]] == MUNSET)
+            thiswt *= J[triadidx[nei2]] + 1;
           if (freeM < 0 || thiswt < freeMrank) {
             freeM = i;
             freeMrank = thiswt;
@@ -282,60 +430,72 @@ public class Wigner3j {
 
     if (freeM >= 0) {
                         /* found an m-value which has not yet been summed over.
+                        * two cases: value is fixed implicitly because already two others values
+                        * are set in the triad. or it is still to maintain its own explicit loop.
                         */
-      if (M[triadidx[freeM]] == null) {
-        Rational[] childM = new Rational[M.length];
-        for (int ji = 0; ji < M.length; ji++)
-          if (M[ji] != null)
-            childM[ji] = M[ji];
-
-                                /* two cases: value is fixed implicitly because already two others values
-                                * are set in the triad. or it is still to maintain its own explicit loop.
-                                */
-        int triadn = freeM / 3;
-        int triadr = freeM % 3;
-                                /* the neighbors in the triad have indices triadn*3+ (triadr+1) mod 3 and triadn*3+(triadr+2) mod3
+      final int jfree = triadidx[freeM];
+      int triadn = freeM / 3;
+      int triadr = freeM % 3;
+                        /* the neighbors in the triad have indices triadn*3+ (triadr+1) mod 3 and triadn*3+(triadr+2) mod3
+                        */
+      int nei1 = 3 * triadn + (triadr + 1) % 3;
+      int nei2 = 3 * triadn + (triadr + 2) % 3;
+      if (M[triadidx[nei1]] == MUNSET || M[triadidx[nei2]] == MUNSET) {
+                                /* The J-value is J[jfree]. Loop from -J to +J, the allowed range.
                                 */
-        int nei1 = 3 * triadn + (triadr + 1) % 3;
-        int nei2 = 3 * triadn + (triadr + 2) % 3;
-        if (M[triadidx[nei1]] == null || M[triadidx[nei2]] == null) {
-                                        /* The J-value is J[triadidx[freeM]]. Loop from -J to +J, the allowed range.
+        if (depth < PARALLEL_DEPTH && J[jfree] > 0) {
+                                        /* one task per m-value, each on its own copy of the M-values.
+                                        * The partial sums are joined in the order of the m-values.
                                         */
-          Rational newm = J[triadidx[freeM]].negate();
-          while (newm.compareTo(J[triadidx[freeM]]) <= 0) {
-            childM[triadidx[freeM]] = tvec[freeM] > 0 ? newm : newm.negate();
-            res = res.add(wigner3j(tvec, J, childM, triadidx));
-            newm = newm.add(Rational.ONE);
+          Vector<MSumTask> tasks = new Vector<MSumTask>();
+          for (int newm = -J[jfree]; newm <= J[jfree]; newm += 2) {
+            int[] childM = M.clone();
+            childM[jfree] = tvec[freeM] > 0 ? newm : -newm;
+            tasks.add(new MSumTask(tvec, J, childM, triadidx, depth + 1, caller));
           }
+          ForkJoinTask.invokeAll(tasks);
+          for (MSumTask t : tasks)
+            res = res.add(t.join());
         } else {
-                                        /* Set its value and the value at its companion j-value.
-                                        * Sum of the three m-values in the triad is to be zero for a non-zero contribution.
-                                        */
-          Rational m1 = M[triadidx[nei1]];
-          Rational m2 = M[triadidx[nei2]];
-                                        /* negate if these are the second occurrences of the J in the triads
-                                        */
-          if (tvec[nei1] < 0)
-            m1 = m1.negate();
-          if (tvec[nei2] < 0)
-            m2 = m2.negate();
-                                        /* m3 = -(m1+m2) */
-          Rational newm = tvec[freeM] > 0 ? m1.add(m2).negate() : m1.add(m2);
-                                        /* No contribution if the m-value enforced by the other two entries
-                                        * is outside the range -|J|..|J| enforced by its associated J-value. One could
-                                        * essentially remove this branching and let wigner3j() decide on this,
-                                        * but this is inefficient.
-                                        */
-          if (newm.abs().compareTo(J[triadidx[freeM]]) <= 0) {
-            childM[triadidx[freeM]] = newm;
-            res = res.add(wigner3j(tvec, J, childM, triadidx));
+          for (int newm = -J[jfree]; newm <= J[jfree]; newm += 2) {
+            if (caller.isInterrupted()) {
+              M[jfree] = MUNSET;
+              throw new CancellationException("Summation over m interrupted");
+            }
+            M[jfree] = tvec[freeM] > 0 ? newm : -newm;
+            res = res.add(wigner3j(tvec, J, M, triadidx, depth + 1, caller));
           }
-                                                /* zero contribution if this m-value cannot be set to any
-                                                * value compatible with the triangular conditions.
-                                                */
+          M[jfree] = MUNSET;
         }
-        return res;
+      } else {
+                                /* Set its value and the value at its companion j-value.
+                                * Sum of the three m-values in the triad is to be zero for a non-zero contribution.
+                                */
+        int m1 = M[triadidx[nei1]];
+        int m2 = M[triadidx[nei2]];
+                                /* negate if these are the second occurrences of the J in the triads
+                                */
+        if (tvec[nei1] < 0)
+          m1 = -m1;
+        if (tvec[nei2] < 0)
+          m2 = -m2;
+                                /* m3 = -(m1+m2) */
+        final int newm = tvec[freeM] > 0 ? -(m1 + m2) : m1 + m2;
+                                /* No contribution if the m-value enforced by the other two entries
+                                * is outside the range -|J|..|J| enforced by its associated J-value. One could
+                                * essentially remove this branching and let wigner3j() decide on this,
+                                * but this is inefficient.
+                                */
+        if (Math.abs(newm) <= J[jfree]) {
+          M[jfree] = newm;
+          res = res.add(wigner3j(tvec, J, M, triadidx, depth, caller));
+          M[jfree] = MUNSET;
+        }
+                                /* zero contribution if this m-value cannot be set to any
+                                * value compatible with the triangular conditions.
+                                */
       }
+      return res;
     }
 
                 /* reached the bottom of the loop where all M-values are assigned.
@@ -343,37 +503,231 @@ public class Wigner3j {
                 */
     res = BigSurdVec.ONE;
     for (int ji = 0; ji < triadidx.length; ji += 3) {
-      Rational m1 = M[triadidx[ji]];
-      Rational m2 = M[triadidx[ji + 1]];
-      Rational m3 = M[triadidx[ji + 2]];
+      int m1 = M[triadidx[ji]];
+      int m2 = M[triadidx[ji + 1]];
+      int m3 = M[triadidx[ji + 2]];
                         /* negate if these are associated with in-flowing vectors in the triads
                         */
       if (tvec[ji] < 0)
-        m1 = m1.negate();
+        m1 = -m1;
       if (tvec[ji + 1] < 0)
-        m2 = m2.negate();
+        m2 = -m2;
       if (tvec[ji + 2] < 0)
-        m3 = m3.negate();
-      res = res.multiply(wigner3jm(J[triadidx[ji]], J[triadidx[ji + 1]], J[triadidx[ji + 2]], m1, m2, m3));
+        m3 = -m3;
+      final BigSurd w = wigner3jm(J[triadidx[ji]], J[triadidx[ji + 1]], J[triadidx[ji + 2]], m1, m2, m3);
 
                         /* if a partial product yields zero, the total product is zero, too, and
                         * offers an early exit.
                         */
-      if (res.signum() == 0)
+      if (w.signum() == 0)
         return BigSurdVec.ZERO;
+      res = res.multiply(w);
     }
                 /* The overal sign is product_{J-Mpairs} (-1)^(J-M). This is an integer because all the J-M are integer.
                 */
-    Rational sig = new Rational();
+    int sig = 0;
     for (int ji = 0; ji < J.length; ji++)
-      sig = sig.add(J[ji]).subtract(M[ji]);
-                /* sign depends on the sum being even or odd. We assume that "sig" is integer and
-                * look only at the numerator */
-    if (sig.a.abs().testBit(0))
+      sig += J[ji] - M[ji];
+    if ((sig / 2) % 2 != 0)
       res = res.negate();
     return res;
   } /* wigner3j */
 
+  /**
+   * The Wigner 6j symbol {j1,j2,j3; j4,j5,j6} by the Racah formula.
+   * All arguments of the function are the actual parameters multiplied by 2, so
+   * they all allow an integer representation.
+   * This is a single sum over the Racah index t, where all factorials are kept in their
+   * prime factor decompositions, which replaces the sum over the magnetic quantum numbers of products of four 3jm symbols.
+   *
+   * @param j1 integer representing 2*j1
+   * @param j2 integer representing 2*j2
+   * @param j3 integer representing 2*j3
+   * @param j4 integer representing 2*j4
+   * @param j5 integer representing 2*j5
+   * @param j6 integer representing 2*j6
+   * @return The value of the symbol. Zero if any of the triangular inequalities is violated.
+   * @since 2026-10-19
+   */
+  static public BigSurd wigner6j(int j1, int j2, int j3, int j4, int j5, int j6) {
+                /* The four triads (j1,j2,j3), (j1,j5,j6), (j4,j2,j6) and (j4,j5,j3).
+                */
+    if (!triangle(j1, j2, j3) || !triangle(j1, j5, j6) || !triangle(j4, j2, j6) || !triangle(j4, j5, j3))
+      return BigSurd.ZERO;
+
+                /* The sums of the triads, a_i, and the sums of the opposite pairs of the columns, b_i.
+                */
+    final int[] a = {(j1 + j2 + j3) / 2, (j1 + j5 + j6) / 2, (j4 + j2 + j6) / 2, (j4 + j5 + j3) / 2};
+    final int[] b = {(j1 + j2 + j4 + j5) / 2, (j2 + j3 + j5 + j6) / 2, (j3 + j1 + j6 + j4) / 2};
+
+    final int tmin = Math.max(Math.max(a[0], a[1]), Math.max(a[2], a[3]));
+    final int tmax = Math.min(b[0], Math.min(b[1], b[2]));
+
+                /* exponents of the primes in the factorization, indexed by the prime. The largest
+                * factorial in the sqrt is (a_i+1)!, the largest in the sum (tmax+1)!.
+                */
+    final int nmax = Math.max(tmax, tmin) + 2;
+    final int[] f = Prime.sieve(nmax);
+
+                /* The triangle coefficients under the square root,
+                * Delta(abc) = (a+b-c)!(a-b+c)!(-a+b+c)!/(a+b+c+1)!
+                */
+    int[] ex = new int[nmax];
+    triangleExp(ex, j1, j2, j3, f);
+    triangleExp(ex, j1, j5, j6, f);
+    triangleExp(ex, j4, j2, j6, f);
+    triangleExp(ex, j4, j5, j3, f);
+
+                /* sum_t (-1)^t (t+1)!/[(t-a1)!(t-a2)!(t-a3)!(t-a4)!(b1-t)!(b2-t)!(b3-t)!]
+                */
+    RationalAccumulator sumt = new RationalAccumulator();
+    int[] ext = new int[nmax];
+    for (int t = tmin; t <= tmax; t++) {
+      Arrays.fill(ext, 0);
+      factorialExp(ext, t + 1, 1, f);
+      for (int i = 0; i < a.length; i++)
+        factorialExp(ext, t - a[i], -1, f);
+      for (int i = 0; i < b.length; i++)
+        factorialExp(ext, b[i] - t, -1, f);
+      if (t % 2 == 0)
+        sumt.add(fromExp(ext));
+      else
+        sumt.subtract(fromExp(ext));
+    }
+    final Rational pref = sumt.toRational();
+    if (pref.signum() == 0)
+      return BigSurd.ZERO;
+                /* The BigSurd moves the even powers of the primes out of the root.
+                */
+    return new BigSurd(pref, fromExp(ex, 1), fromExp(ex, -1));
+  } /* wigner6j */
+
+  /**
+   * The Wigner 9j symbol {j1,j2,j3; j4,j5,j6; j7,j8,j9}.
+   * All arguments of the function are the actual parameters multiplied by 2, so
+   * they all allow an integer representation.
+   * This is the sum over x of (-1)^(2x) (2x+1) {j1,j4,j7; j8,j9,x}{j2,j5,j8; j4,x,j6}{j3,j6,j9; x,j1,j2}
+   * with the 6j symbols computed by the Racah formula.
+   *
+   * @param j1 integer representing 2*j1
+   * @param j2 integer representing 2*j2
+   * @param j3 integer representing 2*j3
+   * @param j4 integer representing 2*j4
+   * @param j5 integer representing 2*j5
+   * @param j6 integer representing 2*j6
+   * @param j7 integer representing 2*j7
+   * @param j8 integer representing 2*j8
+   * @param j9 integer representing 2*j9
+   * @return The value of the symbol. Zero if any of the triangular inequalities is violated.
+   * @since 2026-10-19
+   */
+  static public BigSurdVec wigner9j(int j1, int j2, int j3, int j4, int j5, int j6, int j7, int j8, int j9) {
+                /* The triads are the rows and columns.
+                */
+    if (!triangle(j1, j2, j3) || !triangle(j4, j5, j6) || !triangle(j7, j8, j9)
+      || !triangle(j1, j4, j7) || !triangle(j2, j5, j8) || !triangle(j3, j6, j9))
+      return new BigSurdVec();
+
+                /* The doubled x in the range allowed by the triads (j1,j9,x), (j4,j8,x) and (j2,j6,x).
+                */
+    final int xmin = Math.max(Math.abs(j1 - j9), Math.max(Math.abs(j4 - j8), Math.abs(j2 - j6)));
+    final int xmax = Math.min(j1 + j9, Math.min(j4 + j8, j2 + j6));
+    BigSurdVec res = new BigSurdVec();
+    for (int x = xmin; x <= xmax; x += 2) {
+      BigSurd w = wigner6j(j1, j4, j7, j8, j9, x);
+      if (w.signum() == 0)
+        continue;
+      w = w.multiply(wigner6j(j2, j5, j8, j4, x, j6));
+      if (w.signum() == 0)
+        continue;
+      w = w.multiply(wigner6j(j3, j6, j9, x, j1, j2)).multiply(x + 1);
+      if (w.signum() == 0)
+        continue;
+                        /* (-1)^(2x) */
+      if (x % 2 != 0)
+        w = w.negate();
+      res = res.add(w);
+    }
+    return res;
+  } /* wigner9j */
+
+  /**
+   * Triangular condition of three doubled angular momenta.
+   *
+   * @param j1 integer representing 2*j1
+   * @param j2 integer representing 2*j2
+   * @param j3 integer representing 2*j3
+   * @return true if |j1-j2| <= j3 <= j1+j2 and j1+j2+j3 is integer.
+   * @since 2026-10-19
+   */
+  static private boolean triangle(int j1, int j2, int j3) {
+    return j1 >= 0 && j2 >= 0 && j3 >= 0 && Math.abs(j1 - j2) <= j3 && j3 <= j1 + j2 && (j1 + j2 + j3) % 2 == 0;
+  } /* triangle */
+
+  /**
+   * Add the prime exponents of the triangle coefficient (a+b-c)!(a-b+c)!(-a+b+c)!/(a+b+c+1)!.
+   *
+   * @param ex The exponents indexed by the primes, which are updated.
+   * @param j1 integer representing 2*a
+   * @param j2 integer representing 2*b
+   * @param j3 integer representing 2*c
+   * @param f  The primes up to at least a+b+c+1.
+   * @since 2026-10-19
+   */
+  static private void triangleExp(int[] ex, int j1, int j2, int j3, int[] f) {
+    factorialExp(ex, (j1 + j2 - j3) / 2, 1, f);
+    factorialExp(ex, (j1 - j2 + j3) / 2, 1, f);
+    factorialExp(ex, (-j1 + j2 + j3) / 2, 1, f);
+    factorialExp(ex, (j1 + j2 + j3) / 2 + 1, -1, f);
+  } /* triangleExp */
+
+  /**
+   * Add the prime exponents of n! multiplied by a sign.
+   *
+   * @param ex     The exponents indexed by the primes, which are updated.
+   * @param n      The argument of the factorial.
+   * @param sig    +1 for a factorial in the numerator, -1 for a factorial in the denominator.
+   * @param primes The primes up to at least n.
+   * @since 2026-10-19
+   */
+  static private void factorialExp(int[] ex, int n, int sig, int[] primes) {
+    for (int i = 0; i < primes.length && primes[i] <= n; i++)
+      ex[primes[i]] += sig * Factorial.exponent(n, primes[i]);
+  } /* factorialExp */
+
+  /**
+   * The fraction of the prime powers.
+   *
+   * @param ex The exponents indexed by the primes. Positive exponents contribute to the numerator, negative
+   *           exponents to the denominator.
+   * @return The product of all p^ex[p].
+   * @since 2026-10-19
+   */
+  static private Rational fromExp(int[] ex) {
+    return new Rational(fromExp(ex, 1).n, fromExp(ex, -1).n);
+  } /* fromExp */
+
+  /**
+   * The numerator or the denominator of the fraction of the prime powers, in factored form.
+   *
+   * @param ex  The exponents indexed by the primes.
+   * @param sig +1 for the numerator, the product over the positive exponents, -1 for the denominator,
+   *            the product over the negative exponents.
+   * @return The product of the p^|ex[p]| with sig*ex[p] &gt; 0.
+   * @since 2026-10-19
+   */
+  static private IFactor fromExp(int[] ex, int sig) {
+    IFactor f = new IFactor(0);
+    f.n = BigInteger.ONE;
+    for (int p = 2; p < ex.length; p++)
+      if (sig * ex[p] > 0) {
+        f.n = f.n.multiply(BigInteger.valueOf(p).pow(sig * ex[p]));
+        f.primeExp.add(p);
+        f.primeExp.add(sig * ex[p]);
+      }
+    return (f.primeExp.size() == 0) ? IFactor.ONE : f;
+  } /* fromExp */
+
   /**
    * The Wigner 3jm symbol (j1,j2,j3,m1,m2,m3).
    * Warning: there is no check that each argument is indeed half-integer.
@@ -471,28 +825,30 @@ public class Wigner3j {
     if (j1m2.subtract(m3).intValue() % 2 != 0)
       sumk = sumk.negate();
 
+                /* The discriminant is kept in its prime factorization, which spares the factorization
+                * of the product of the factorials in the normalization of the BigSurd.
+                */
     k = j1m2.add(j3).intValue();
-    BigInteger s = f.at(k);
+    IFactor s = f.toIfactor(k);
     k = j3.subtract(j1m2).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j1p2.subtract(j3).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j3.add(m3).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j3.subtract(m3).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j1.add(m1).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j1.subtract(m1).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j2.add(m2).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j2.subtract(m2).intValue();
-    s = s.multiply(f.at(k));
+    s = s.multiply(f.toIfactor(k));
     k = j1p2.add(j3).intValue();
     k++;
-    Rational disc = new Rational(s, f.at(k));
-    return new BigSurd(sumk, disc);
+    return new BigSurd(sumk, s, f.toIfactor(k));
   } /* wigner3jm */
 
 
@@ -3,10 +3,19 @@ package math;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JList;
+import javax.swing.JProgressBar;
+import javax.swing.SwingWorker;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
@@ -17,6 +26,8 @@ import javax.swing.event.ListSelectionListener;
  * (6j up to 15j), or to enter any other connectivity for the triads of j-values.
  * The actual j-values are entered as integers (2j+1) and the computation of one
  * value (in exact square root representation) is started manually.
+ * The lines of j-values are evaluated in parallel by a background worker, which
+ * shows the results in the order of the lines as they become available, and which can be cancelled.
  *
  * @since 2011-02-15
  */
@@ -32,6 +43,22 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
   Label Lbl1;
 
   JButton sear;
+
+  /**
+   * Button which cancels the running computation.
+   */
+  JButton canc;
+
+  /**
+   * Fraction of the lines of J-values already computed.
+   */
+  JProgressBar progr;
+
+  /**
+   * The background computation, null if none has been started.
+   */
+  SwingWorker<Void, String> worker;
+
   JList<String> searJ;
   String[] searOpt = {"6j", "9j", "12j 1st", "12j 2nd (not sym)", "15j 1st", "15j 2nd", "15j 3rd", "15j 4th", "15j 5th"};
 
@@ -68,6 +95,15 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
     sear.addActionListener(this);
     sear.setToolTipText("Compute a general 3jn  value");
 
+    canc = new JButton("Cancel");
+    canc.setActionCommand("cancel");
+    canc.addActionListener(this);
+    canc.setToolTipText("Stop the computation");
+    canc.setEnabled(false);
+
+    progr = new JProgressBar();
+    progr.setStringPainted(true);
+
     searJ = new JList<>(searOpt);
     searJ.setLayoutOrientation(JList.HORIZONTAL_WRAP);
     searJ.addListSelectionListener(this);
@@ -113,6 +149,10 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
 
     frame.add(sear);
     gridBag.setConstraints(sear, gridConstrains);
+    frame.add(canc);
+    gridBag.setConstraints(canc, gridConstrains);
+    frame.add(progr);
+    gridBag.setConstraints(progr, gridConstrains);
     frame.add(searJ);
     gridBag.setConstraints(searJ, gridConstrains);
 
@@ -127,12 +167,15 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
   } /* init */
 
   /**
+   * Start the computation of the symbols of all lines of J-values.
+   * The triads are read here, the symbols are computed by a background worker.
+   *
    * @author Richard J. Mathar
    * @since 2010-08-27
    */
   public void compute() {
     String tr = inpGtRia.getText();
-    String[] trias = new String[4];
+    final String[] trias = new String[3];
 
                 /* Read the trias configuration from inpGtRia into trias[0..2], skipping lines
                 * that start with a hash mark.
@@ -148,34 +191,95 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
         return;
       }
     }
-                /* Read the J values from inpGjVal into triangles[3] in a loop
+                /* Read the J values from inpGjVal into a list of lines
                 */
-    String j = inpGjVal.getText();
-    s = new Scanner(j);
-    while (true) {
-      try {
-        trias[3] = s.nextLine().trim();
-      } catch (Exception e) {
-        return;
-      }
-      if (!trias[3].startsWith("#")) {
+    final Vector<String> jlines = new Vector<String>();
+    s = new Scanner(inpGjVal.getText());
+    while (s.hasNextLine()) {
+      final String l = s.nextLine().trim();
+      if (!l.startsWith("#"))
+        jlines.add(l);
+    }
+
+    progr.setMaximum(Math.max(1, jlines.size()));
+    progr.setValue(0);
+    sear.setEnabled(false);
+    canc.setEnabled(true);
+    worker = new SwingWorker<Void, String>() {
+      /**
+       * Compute the lines in parallel, and publish them in their original order.
+       */
+      @Override
+      protected Void doInBackground() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
         try {
-          BigSurdVec w = Wigner3j.wigner3j(trias[0], trias[1], trias[2], trias[3]);
-          outG.append(w.toString() + " = " + w.doubleValue());
-        } catch (Exception e) {
-          outG.append(e.toString());
-          e.printStackTrace();
+          Vector<Future<String>> res = new Vector<Future<String>>();
+          for (final String jl : jlines)
+            res.add(pool.submit(new Callable<String>() {
+              public String call() {
+                return compute(trias, jl);
+              }
+            }));
+          for (Future<String> f : res) {
+            if (isCancelled())
+              break;
+            publish(f.get());
+          }
+        } finally {
+                                        /* interrupts the summations of lines which are still running
+                                        */
+          pool.shutdownNow();
         }
-        outG.append(" # J = ");
-        Scanner num = new Scanner(trias[3]);
-        while (num.hasNextInt()) {
-          int twoj1 = num.nextInt();
-          Rational jfrac = new Rational(twoj1 - 1, 2);
-          outG.append(jfrac.toString() + " ");
+        return null;
+      }
+
+      @Override
+      protected void process(List<String> chunks) {
+        for (String l : chunks) {
+          outG.append(l);
+          progr.setValue(progr.getValue() + 1);
         }
-        outG.append("\n");
       }
+
+      @Override
+      protected void done() {
+        if (isCancelled())
+          outG.append("# cancelled\n");
+        sear.setEnabled(true);
+        canc.setEnabled(false);
+      }
+    };
+    worker.execute();
+  } /* compute */
+
+  /**
+   * Compute the symbol of one line of J-values.
+   *
+   * @param trias The number of angular momenta and the two lines of triads.
+   * @param jline The values 2J+1.
+   * @return The output line with the exact and the floating point value, and the J-values.
+   * @since 2026-10-19
+   */
+  static String compute(final String[] trias, final String jline) {
+    StringBuilder out = new StringBuilder();
+    try {
+      BigSurdVec w = Wigner3j.wigner3j(trias[0], trias[1], trias[2], jline);
+      out.append(w.toString() + " = " + w.doubleValue());
+    } catch (CancellationException e) {
+      throw e;
+    } catch (Exception e) {
+      out.append(e.toString());
+      e.printStackTrace();
+    }
+    out.append(" # J = ");
+    Scanner num = new Scanner(jline);
+    while (num.hasNextInt()) {
+      int twoj1 = num.nextInt();
+      Rational jfrac = new Rational(twoj1 - 1, 2);
+      out.append(jfrac.toString() + " ");
     }
+    out.append("\n");
+    return out.toString();
   } /* compute */
 
   /**
@@ -192,8 +296,13 @@ public class Wigner3jGUI implements ActionListener, ListSelectionListener {
                 System.out.println(lin) ;
                 */
     if ("compute".equals(lin)) {
+      if (worker != null && !worker.isDone())
+        return;
       outG.setText("");
       compute();
+    } else if ("cancel".equals(lin)) {
+      if (worker != null)
+        worker.cancel(true);
     }
   } /* actionPerformed */
 
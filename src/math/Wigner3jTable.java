@@ -0,0 +1,556 @@
+package math;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Tables of Wigner 3jm, 6j and 9j symbols.
+ * The j-values (and for the 3jm symbols all m-values compatible with them) are scanned over ranges,
+ * and only one representative of each class of symbols related by the permutation and Regge symmetries
+ * is computed. The representative is the lexicographically smallest member of the class that lies
+ * within the ranges. The computations are distributed over a pool of worker threads, and the results
+ * are written to a stream in the order of the scan while the remaining values are computed.
+ * <p>
+ * Each line of the table contains the (doubled) arguments of the symbol, the number of symbols in the ranges
+ * represented by this line, the exact value and its floating point approximation.
+ *
+ * @since 2026-10-19
+ */
+public class Wigner3jTable {
+  /**
+   * The permutations of three indices. The first three are even, the last three are odd.
+   */
+  static private final int[][] PERM3 = {{0, 1, 2}, {1, 2, 0}, {2, 0, 1}, {1, 0, 2}, {0, 2, 1}, {2, 1, 0}};
+
+  /**
+   * The maximum number of finished or running tasks that are not yet written.
+   * The memory of the pending output is limited to this number times the number of threads.
+   */
+  static private final int PENDING_PER_THREAD = 4;
+
+  /**
+   * Test program.
+   * Usage:<br>
+   * java -cp . math.Wigner3jTable [-t threads] 3jm|6j|9j file lo:hi [lo:hi ...]<br>
+   * The ranges lo:hi are of the doubled values 2j. A single range applies to all j-values of the symbol,
+   * otherwise there must be one range per j-value (3 for 3jm, 6 for 6j, 9 for 9j), in the order of
+   * reading the standard symbol row by row. The file "-" denotes the standard output.
+   * Example: java -cp . math.Wigner3jTable 6j table6j.txt 0:100 generates all 6j symbols up to j=50.
+   *
+   * @param args The optional number of threads, the type of the symbol, the output file and the ranges.
+   * @since 2026-10-19
+   */
+  static public void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+    int nthreads = Runtime.getRuntime().availableProcessors();
+    int a = 0;
+    if (args.length > 1 && args[0].compareTo("-t") == 0) {
+      nthreads = Integer.parseInt(args[1]);
+      a = 2;
+    }
+    if (args.length < a + 3) {
+      System.out.println("usage:");
+      System.out.println("java -cp . math.Wigner3jTable [-t threads] 3jm|6j|9j file lo:hi [lo:hi ...]");
+      return;
+    }
+    final String type = args[a];
+    final int[][] range = parseRanges(type, args, a + 2);
+
+    Writer out = (args[a + 1].compareTo("-") == 0)
+      ? new BufferedWriter(new OutputStreamWriter(System.out))
+      : new BufferedWriter(new FileWriter(args[a + 1]));
+    try {
+      write(type, range, nthreads, out);
+    } finally {
+      out.close();
+    }
+  } /* Wigner3jTable.main */
+
+  /**
+   * Write a table of symbols.
+   * The outermost two j-values of the scan are distributed as separate tasks over the threads.
+   *
+   * @param type     One of "3jm", "6j" or "9j".
+   * @param range    The lower and upper limits of the doubled j-values, range[i][0] &lt;= 2j_i &lt;= range[i][1].
+   * @param nthreads The number of worker threads.
+   * @param out      The stream which receives the lines of the table.
+   * @since 2026-10-19
+   */
+  static public void write(final String type, final int[][] range, int nthreads, Writer out)
+    throws IOException, InterruptedException, ExecutionException {
+    final int npos = positions(type);
+    if (range.length != npos)
+      throw new IllegalArgumentException("Need " + npos + " ranges for " + type + ", not " + range.length);
+    for (int i = 0; i < npos; i++)
+      if (range[i][0] < 0 || range[i][0] > range[i][1] || range[i][1] >= 512)
+        throw new IllegalArgumentException("Illegal range " + range[i][0] + ":" + range[i][1]);
+
+    out.write("# " + type + " table, 2j ranges");
+    for (int i = 0; i < npos; i++)
+      out.write(" " + range[i][0] + ":" + range[i][1]);
+    out.write("\n# 2j..." + (type.compareTo("3jm") == 0 ? " 2m..." : "") + " count exact double\n");
+
+    ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, nthreads));
+    try {
+                        /* Results are written in the order of submission. At most PENDING_PER_THREAD
+                        * tasks per thread are kept in the queue, and the oldest is written before another one is submitted.
+                        */
+      LinkedList<Future<String>> pending = new LinkedList<Future<String>>();
+      for (int j1 = range[0][0]; j1 <= range[0][1]; j1++)
+        for (int j2 = range[1][0]; j2 <= range[1][1]; j2++) {
+          final int tj1 = j1;
+          final int tj2 = j2;
+          pending.add(pool.submit(new Callable<String>() {
+            public String call() {
+              if (type.compareTo("3jm") == 0)
+                return table3jm(tj1, tj2, range);
+              else if (type.compareTo("6j") == 0)
+                return table6j(tj1, tj2, range);
+              else
+                return table9j(tj1, tj2, range);
+            }
+          }));
+          while (pending.size() >= PENDING_PER_THREAD * Math.max(1, nthreads)) {
+            out.write(pending.removeFirst().get());
+            out.flush();
+          }
+        }
+      while (!pending.isEmpty()) {
+        out.write(pending.removeFirst().get());
+        out.flush();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  } /* Wigner3jTable.write */
+
+  /**
+   * The 3jm symbol of the class represented by the lexicographically smallest member.
+   * The members of the class are related by permutations of the columns, by the sign change of all m,
+   * and by the Regge symmetries.
+   *
+   * @param jm The doubled values 2j1, 2j2, 2j3, 2m1, 2m2, 2m3.
+   * @return The representative 2j1, 2j2, 2j3, 2m1, 2m2, 2m3 followed by the sign s such that the symbol
+   * of jm equals s times the symbol of the representative.
+   * @since 2026-10-19
+   */
+  static public int[] canonical3jm(final int[] jm) {
+    return smallest(orbit3jm(jm, null));
+  } /* Wigner3jTable.canonical3jm */
+
+  /**
+   * The 6j symbol of the class represented by the lexicographically smallest member.
+   * The members of the class are related by the 24 tetrahedral symmetries and the Regge symmetries.
+   *
+   * @param j The doubled values 2j1, .., 2j6 of the symbol {j1,j2,j3; j4,j5,j6}.
+   * @return The representative 2j1, .., 2j6 followed by the sign +1.
+   * @since 2026-10-19
+   */
+  static public int[] canonical6j(final int[] j) {
+    return smallest(orbit6j(j, null));
+  } /* Wigner3jTable.canonical6j */
+
+  /**
+   * The 9j symbol of the class represented by the lexicographically smallest member.
+   * The members of the class are related by permutations of rows and columns, and by transposition.
+   *
+   * @param j The doubled values 2j1, .., 2j9 of the symbol {j1,j2,j3; j4,j5,j6; j7,j8,j9}.
+   * @return The representative 2j1, .., 2j9 followed by the sign s such that the symbol
+   * of j equals s times the symbol of the representative.
+   * @since 2026-10-19
+   */
+  static public int[] canonical9j(final int[] j) {
+    return smallest(orbit9j(j, null));
+  } /* Wigner3jTable.canonical9j */
+
+  /**
+   * The lines of the 3jm table with fixed j1 and j2.
+   *
+   * @param j1    The doubled j1.
+   * @param j2    The doubled j2.
+   * @param range The ranges of the three doubled j-values.
+   * @return The lines of the representatives.
+   * @since 2026-10-19
+   */
+  static private String table3jm(final int j1, final int j2, final int[][] range) {
+    StringBuilder s = new StringBuilder();
+    for (int j3 = Math.max(range[2][0], Math.abs(j1 - j2)); j3 <= Math.min(range[2][1], j1 + j2); j3++) {
+      if ((j1 + j2 + j3) % 2 != 0)
+        continue;
+      for (int m1 = -j1; m1 <= j1; m1 += 2)
+        for (int m2 = -j2; m2 <= j2; m2 += 2) {
+          final int m3 = -m1 - m2;
+          if (Math.abs(m3) > j3)
+            continue;
+          final int[] jm = {j1, j2, j3, m1, m2, m3};
+          final Vector<int[]> orb = orbit3jm(jm, range);
+          if (orb != null)
+            appendLine(s, jm, count(orb, range, 3), Wigner3j.wigner3jm(j1, j2, j3, m1, m2, m3));
+        }
+    }
+    return s.toString();
+  } /* Wigner3jTable.table3jm */
+
+  /**
+   * The lines of the 6j table with fixed j1 and j2.
+   *
+   * @param j1    The doubled j1.
+   * @param j2    The doubled j2.
+   * @param range The ranges of the six doubled j-values.
+   * @return The lines of the representatives.
+   * @since 2026-10-19
+   */
+  static private String table6j(final int j1, final int j2, final int[][] range) {
+    StringBuilder s = new StringBuilder();
+                /* triads (j1,j2,j3), (j1,j5,j6), (j4,j2,j6), (j4,j5,j3)
+                */
+    for (int j3 = Math.max(range[2][0], Math.abs(j1 - j2)); j3 <= Math.min(range[2][1], j1 + j2); j3++) {
+      if ((j1 + j2 + j3) % 2 != 0)
+        continue;
+      for (int j4 = range[3][0]; j4 <= range[3][1]; j4++)
+        for (int j5 = Math.max(range[4][0], Math.abs(j4 - j3)); j5 <= Math.min(range[4][1], j4 + j3); j5++) {
+          if ((j3 + j4 + j5) % 2 != 0)
+            continue;
+          final int j6min = Math.max(Math.abs(j1 - j5), Math.abs(j4 - j2));
+          final int j6max = Math.min(j1 + j5, j4 + j2);
+          for (int j6 = Math.max(range[5][0], j6min); j6 <= Math.min(range[5][1], j6max); j6++) {
+            if ((j1 + j5 + j6) % 2 != 0 || (j4 + j2 + j6) % 2 != 0)
+              continue;
+            final int[] j = {j1, j2, j3, j4, j5, j6};
+            final Vector<int[]> orb = orbit6j(j, range);
+            if (orb != null)
+              appendLine(s, j, count(orb, range, 6), Wigner3j.wigner6j(j1, j2, j3, j4, j5, j6));
+          }
+        }
+    }
+    return s.toString();
+  } /* Wigner3jTable.table6j */
+
+  /**
+   * The lines of the 9j table with fixed j1 and j2.
+   *
+   * @param j1    The doubled j1.
+   * @param j2    The doubled j2.
+   * @param range The ranges of the nine doubled j-values.
+   * @return The lines of the representatives.
+   * @since 2026-10-19
+   */
+  static private String table9j(final int j1, final int j2, final int[][] range) {
+    StringBuilder s = new StringBuilder();
+                /* The rows and the columns are triads.
+                */
+    for (int j3 = Math.max(range[2][0], Math.abs(j1 - j2)); j3 <= Math.min(range[2][1], j1 + j2); j3 += 1) {
+      if ((j1 + j2 + j3) % 2 != 0)
+        continue;
+      for (int j4 = range[3][0]; j4 <= range[3][1]; j4++)
+        for (int j5 = range[4][0]; j5 <= range[4][1]; j5++)
+          for (int j6 = Math.max(range[5][0], Math.abs(j4 - j5)); j6 <= Math.min(range[5][1], j4 + j5); j6++) {
+            if ((j4 + j5 + j6) % 2 != 0)
+              continue;
+            for (int j7 = Math.max(range[6][0], Math.abs(j1 - j4)); j7 <= Math.min(range[6][1], j1 + j4); j7++) {
+              if ((j1 + j4 + j7) % 2 != 0)
+                continue;
+              for (int j8 = Math.max(range[7][0], Math.abs(j2 - j5)); j8 <= Math.min(range[7][1], j2 + j5); j8++) {
+                if ((j2 + j5 + j8) % 2 != 0)
+                  continue;
+                final int j9min = Math.max(Math.abs(j3 - j6), Math.abs(j7 - j8));
+                final int j9max = Math.min(j3 + j6, j7 + j8);
+                for (int j9 = Math.max(range[8][0], j9min); j9 <= Math.min(range[8][1], j9max); j9++) {
+                  if ((j3 + j6 + j9) % 2 != 0 || (j7 + j8 + j9) % 2 != 0)
+                    continue;
+                  final int[] j = {j1, j2, j3, j4, j5, j6, j7, j8, j9};
+                  final Vector<int[]> orb = orbit9j(j, range);
+                  if (orb != null)
+                    appendLine(s, j, count(orb, range, 9),
+                      Wigner3j.wigner9j(j1, j2, j3, j4, j5, j6, j7, j8, j9));
+                }
+              }
+            }
+          }
+    }
+    return s.toString();
+  } /* Wigner3jTable.table9j */
+
+  /**
+   * The members of the symmetry class of a 3jm symbol.
+   * The symmetries are the 72 permutations of the rows and columns, and the transposition, of the Regge square
+   * (-j1+j2+j3, j1-j2+j3, j1+j2-j3; j1-m1, j2-m2, j3-m3; j1+m1, j2+m2, j3+m3).
+   * An odd permutation multiplies the symbol by (-1)^(j1+j2+j3).
+   *
+   * @param jm    The doubled values 2j1, 2j2, 2j3, 2m1, 2m2, 2m3.
+   * @param range If not null, the ranges of the j-values. The scan stops early if a member within these
+   *              ranges is lexicographically smaller than jm.
+   * @return The list of all 72 members, each followed by the sign relative to jm.
+   * Null if jm is not the smallest member within the ranges.
+   * @since 2026-10-19
+   */
+  static private Vector<int[]> orbit3jm(final int[] jm, final int[][] range) {
+    final int jsum = (jm[0] + jm[1] + jm[2]) / 2;
+    int[][] r = new int[3][3];
+    for (int c = 0; c < 3; c++) {
+      r[0][c] = jsum - jm[c];
+      r[1][c] = (jm[c] - jm[c + 3]) / 2;
+      r[2][c] = (jm[c] + jm[c + 3]) / 2;
+    }
+    Vector<int[]> orb = new Vector<int[]>(72);
+    for (int rp = 0; rp < PERM3.length; rp++)
+      for (int cp = 0; cp < PERM3.length; cp++)
+        for (int tr = 0; tr < 2; tr++) {
+          int[] t = new int[7];
+          for (int c = 0; c < 3; c++) {
+            final int r1 = (tr == 0) ? r[PERM3[rp][1]][PERM3[cp][c]] : r[PERM3[rp][c]][PERM3[cp][1]];
+            final int r2 = (tr == 0) ? r[PERM3[rp][2]][PERM3[cp][c]] : r[PERM3[rp][c]][PERM3[cp][2]];
+            t[c] = r1 + r2;
+            t[c + 3] = r2 - r1;
+          }
+          t[6] = sign((rp >= 3) != (cp >= 3), jsum);
+          if (range != null && inRange(t, range, 3) && lexCompare(t, jm) < 0)
+            return null;
+          orb.add(t);
+        }
+    return orb;
+  } /* Wigner3jTable.orbit3jm */
+
+  /**
+   * The members of the symmetry class of a 6j symbol.
+   * The class is generated by the permutations of the columns, the exchange of the upper and lower arguments
+   * in two columns, and the Regge symmetry {j1, s-j2, s-j3; j4, s-j5, s-j6} with s=(j2+j3+j5+j6)/2.
+   * All these leave the value unchanged.
+   *
+   * @param j     The doubled values 2j1, .., 2j6.
+   * @param range If not null, the ranges of the j-values. The closure stops early if a member within these
+   *              ranges is lexicographically smaller than j.
+   * @return The list of the (up to 144) distinct members, each followed by the sign +1.
+   * Null if j is not the smallest member within the ranges.
+   * @since 2026-10-19
+   */
+  static private Vector<int[]> orbit6j(final int[] j, final int[][] range) {
+    Vector<int[]> orb = new Vector<int[]>(144);
+    HashMap<Long, int[]> seen = new HashMap<Long, int[]>(288);
+    int[] t0 = {j[0], j[1], j[2], j[3], j[4], j[5], 1};
+    seen.put(pack6j(t0), t0);
+    orb.add(t0);
+                /* breadth-first closure under the generators
+                */
+    for (int o = 0; o < orb.size(); o++) {
+      final int[] t = orb.elementAt(o);
+      final int s = (t[1] + t[2] + t[4] + t[5]) / 2;
+      final int[][] gen = {
+        {t[1], t[0], t[2], t[4], t[3], t[5], 1},
+        {t[1], t[2], t[0], t[4], t[5], t[3], 1},
+        {t[0], t[4], t[5], t[3], t[1], t[2], 1},
+        {t[0], s - t[1], s - t[2], t[3], s - t[4], s - t[5], 1}};
+      for (int[] g : gen) {
+        final Long key = pack6j(g);
+        if (!seen.containsKey(key)) {
+          if (range != null && inRange(g, range, 6) && lexCompare(g, j) < 0)
+            return null;
+          seen.put(key, g);
+          orb.add(g);
+        }
+      }
+    }
+    return orb;
+  } /* Wigner3jTable.orbit6j */
+
+  /**
+   * The members of the symmetry class of a 9j symbol.
+   * The symmetries are the permutations of rows and of columns, and the transposition.
+   * An odd permutation multiplies the symbol by (-1)^(j1+j2+..+j9).
+   *
+   * @param j     The doubled values 2j1, .., 2j9.
+   * @param range If not null, the ranges of the j-values. The scan stops early if a member within these
+   *              ranges is lexicographically smaller than j.
+   * @return The list of all 72 members, each followed by the sign relative to j.
+   * Null if j is not the smallest member within the ranges.
+   * @since 2026-10-19
+   */
+  static private Vector<int[]> orbit9j(final int[] j, final int[][] range) {
+    int jsum = 0;
+    for (int i = 0; i < 9; i++)
+      jsum += j[i];
+    jsum /= 2;
+    Vector<int[]> orb = new Vector<int[]>(72);
+    for (int rp = 0; rp < PERM3.length; rp++)
+      for (int cp = 0; cp < PERM3.length; cp++)
+        for (int tr = 0; tr < 2; tr++) {
+          int[] t = new int[10];
+          for (int r = 0; r < 3; r++)
+            for (int c = 0; c < 3; c++)
+              t[3 * r + c] = (tr == 0) ? j[3 * PERM3[rp][r] + PERM3[cp][c]] : j[3 * PERM3[rp][c] + PERM3[cp][r]];
+          t[9] = sign((rp >= 3) != (cp >= 3), jsum);
+          if (range != null && inRange(t, range, 9) && lexCompare(t, j) < 0)
+            return null;
+          orb.add(t);
+        }
+    return orb;
+  } /* Wigner3jTable.orbit9j */
+
+  /**
+   * The lexicographically smallest member of a class.
+   *
+   * @param orb The members of the class, each followed by its sign.
+   * @return The smallest member followed by its sign.
+   * @since 2026-10-19
+   */
+  static private int[] smallest(final Vector<int[]> orb) {
+    int[] best = orb.firstElement();
+    for (int[] t : orb)
+      if (lexCompare(t, best) < 0)
+        best = t;
+    return best.clone();
+  } /* Wigner3jTable.smallest */
+
+  /**
+   * The number of distinct members of a class within the ranges.
+   *
+   * @param orb   The members of the class, each followed by its sign.
+   * @param range The ranges of the j-values.
+   * @param nj    The number of j-values at the start of each member.
+   * @return The number of members with different arguments within the ranges.
+   * @since 2026-10-19
+   */
+  static private int count(final Vector<int[]> orb, final int[][] range, final int nj) {
+    HashSet<String> seen = new HashSet<String>();
+    for (int[] t : orb)
+      if (inRange(t, range, nj))
+        seen.add(Arrays.toString(Arrays.copyOf(t, t.length - 1)));
+    return seen.size();
+  } /* Wigner3jTable.count */
+
+  /**
+   * Check whether the j-values are within the ranges.
+   *
+   * @param t     The arguments of the symbol.
+   * @param range The ranges of the j-values.
+   * @param nj    The number of j-values at the start of t.
+   * @return true if range[i][0] &lt;= t[i] &lt;= range[i][1] for all i &lt; nj.
+   * @since 2026-10-19
+   */
+  static private boolean inRange(final int[] t, final int[][] range, final int nj) {
+    for (int i = 0; i < nj; i++)
+      if (t[i] < range[i][0] || t[i] > range[i][1])
+        return false;
+    return true;
+  } /* Wigner3jTable.inRange */
+
+  /**
+   * Lexicographic comparison of the arguments.
+   *
+   * @param a The first list of arguments, followed by its sign.
+   * @param b The second list of arguments, with or without the sign.
+   * @return -1, 0 or 1 if a is smaller, equal or larger than b.
+   * @since 2026-10-19
+   */
+  static private int lexCompare(final int[] a, final int[] b) {
+    for (int i = 0; i < a.length - 1; i++)
+      if (a[i] != b[i])
+        return (a[i] < b[i]) ? -1 : 1;
+    return 0;
+  } /* Wigner3jTable.lexCompare */
+
+  /**
+   * Pack the arguments of a 6j symbol into a key.
+   * The doubled j-values of the ranges are smaller than 512, and all their images under the Regge symmetry
+   * smaller than 1024, so each fits into 10 bits.
+   *
+   * @param t The doubled values 2j1, .., 2j6.
+   * @return The key.
+   * @since 2026-10-19
+   */
+  static private Long pack6j(final int[] t) {
+    long k = 0;
+    for (int i = 0; i < 6; i++)
+      k = (k << 10) | t[i];
+    return k;
+  } /* Wigner3jTable.pack6j */
+
+  /**
+   * The sign of a symmetry operation.
+   *
+   * @param odd  Whether the operation is an odd permutation.
+   * @param jsum The sum of the j-values.
+   * @return -1 if the permutation is odd and jsum is odd, else 1.
+   * @since 2026-10-19
+   */
+  static private int sign(final boolean odd, final int jsum) {
+    return (odd && jsum % 2 != 0) ? -1 : 1;
+  } /* Wigner3jTable.sign */
+
+  /**
+   * Append one line of the table.
+   *
+   * @param s   The lines of the table so far.
+   * @param t   The doubled arguments of the symbol.
+   * @param n   The number of symbols represented.
+   * @param val The exact value of the symbol, a BigSurd or a BigSurdVec.
+   * @since 2026-10-19
+   */
+  static private void appendLine(StringBuilder s, final int[] t, final int n, final Object val) {
+    for (int i = 0; i < t.length; i++)
+      s.append(t[i]).append(' ');
+    s.append(n).append(' ');
+    if (val instanceof BigSurd)
+      s.append(val.toString()).append(' ').append(((BigSurd) val).doubleValue());
+    else
+      s.append(val.toString()).append(' ').append(((BigSurdVec) val).doubleValue());
+    s.append('\n');
+  } /* Wigner3jTable.appendLine */
+
+  /**
+   * The number of j-values of a symbol.
+   *
+   * @param type One of "3jm", "6j" or "9j".
+   * @return 3, 6 or 9.
+   * @since 2026-10-19
+   */
+  static private int positions(final String type) {
+    if (type.compareTo("3jm") == 0)
+      return 3;
+    else if (type.compareTo("6j") == 0)
+      return 6;
+    else if (type.compareTo("9j") == 0)
+      return 9;
+    else
+      throw new IllegalArgumentException("Unsupported symbol " + type);
+  } /* Wigner3jTable.positions */
+
+  /**
+   * Parse the ranges of the command line.
+   *
+   * @param type One of "3jm", "6j" or "9j".
+   * @param args The command line.
+   * @param a    The index of the first range in args.
+   * @return The lower and upper limits for each j-value.
+   * @since 2026-10-19
+   */
+  static private int[][] parseRanges(final String type, final String[] args, final int a) {
+    final int npos = positions(type);
+    final int nr = args.length - a;
+    if (nr != 1 && nr != npos)
+      throw new IllegalArgumentException("Need 1 or " + npos + " ranges for " + type + ", not " + nr);
+    int[][] range = new int[npos][2];
+    for (int i = 0; i < npos; i++) {
+      final String r = args[a + (nr == 1 ? 0 : i)];
+      final int colon = r.indexOf(':');
+      if (colon < 0)
+        throw new NumberFormatException("Range " + r + " not of the form lo:hi");
+      range[i][0] = Integer.parseInt(r.substring(0, colon));
+      range[i][1] = Integer.parseInt(r.substring(colon + 1));
+    }
+    return range;
+  } /* Wigner3jTable.parseRanges */
+} /* Wigner3jTable */